@@ -0,0 +1,85 @@
+package me.bush.eventbus.benchmark;
+
+import me.bush.eventbus.annotation.EventListener;
+import me.bush.eventbus.bus.EventBus;
+import me.bush.eventbus.event.Event;
+import me.bush.eventbus.handler.Handler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Posting throughput with several threads, with and without another thread changing the registry.
+ * {@link #post} uses JMH's thread count, so run {@code ./gradlew jmh -PjmhThreads=N} for each N to see how it scales.
+ * The churn group always posts from 3 threads while 1 thread subscribes and unsubscribes.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+
+    /**
+     * Listeners that are always subscribed.
+     */
+    private static final int LISTENERS = 4;
+
+    @Param({"ReflectHandler", "LambdaHandler", "ASMHandler", "LazyHandler", "CompactHandler", "MethodHandleHandler"})
+    public String handlerType;
+
+    private EventBus eventBus;
+
+    private final Event event = new ContentionEvent();
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws ClassNotFoundException {
+        Class<? extends Handler> handlerType = (Class<? extends Handler>) Class.forName("me.bush.eventbus.handler.handlers." + this.handlerType);
+        this.eventBus = new EventBus(handlerType, System.out::println);
+        for (int i = 0; i < LISTENERS; i++) this.eventBus.subscribe(new Listener());
+    }
+
+    @Benchmark
+    public boolean post() {
+        return this.eventBus.post(this.event);
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(3)
+    public boolean churnPost() {
+        return this.eventBus.post(this.event);
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(1)
+    public void churnSubscribe() {
+        Listener listener = new Listener();
+        this.eventBus.subscribe(listener);
+        this.eventBus.unsubscribe(listener);
+    }
+
+    public static class Listener {
+
+        public int count;
+
+        @EventListener
+        public void onEvent(ContentionEvent event) {
+            this.count++;
+        }
+    }
+
+    public static class ContentionEvent extends Event {
+
+        @Override
+        protected boolean isCancellable() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package me.bush.eventbus.benchmark;
+
+import me.bush.eventbus.annotation.EventListener;
+import me.bush.eventbus.bus.EventBus;
+import me.bush.eventbus.event.Event;
+import me.bush.eventbus.handler.Handler;
+import me.bush.eventbus.handler.handlers.LambdaHandler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Compares finding an event type's handlers with a {@link ConcurrentHashMap} (how {@link EventBus#post} used to do it)
+ * against a {@link ClassValue}, and against a {@link ClassValue} id indexing an array (how it does it now, so the
+ * cache doesn't keep the bus reachable from the event class). Run with {@code ./gradlew jmh}.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerLookupBenchmark {
+
+    /**
+     * Other event types, so the map isn't a single entry.
+     */
+    private static final Class<?>[] otherEvents = {
+            OtherEvent1.class, OtherEvent2.class, OtherEvent3.class, OtherEvent4.class,
+            OtherEvent5.class, OtherEvent6.class, OtherEvent7.class, OtherEvent8.class
+    };
+
+    private final Map<Class<?>, List<Handler>> handlerMap = new ConcurrentHashMap<>();
+
+    private final ClassValue<Handler[]> classValue = new ClassValue<Handler[]>() {
+        @Override
+        protected Handler[] computeValue(Class<?> type) {
+            List<Handler> handlers = HandlerLookupBenchmark.this.handlerMap.get(type);
+            return handlers == null ? new Handler[0] : handlers.toArray(new Handler[0]);
+        }
+    };
+
+    private final ClassValue<Integer> typeIds = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return HandlerLookupBenchmark.this.typeCount.getAndIncrement();
+        }
+    };
+
+    private final AtomicInteger typeCount = new AtomicInteger();
+
+    private final AtomicReferenceArray<Handler[]> handlerArrays = new AtomicReferenceArray<>(16);
+
+    private final EventBus eventBus = new EventBus();
+
+    private final Listener listener = new Listener();
+
+    private Event event;
+
+    @Setup
+    public void setup() throws Throwable {
+        Handler handler = new LambdaHandler(Listener.class.getMethod("onEvent", BenchmarkEvent.class), this.listener, System.out::println);
+        for (Class<?> otherEvent : otherEvents) {
+            this.handlerMap.put(otherEvent, new CopyOnWriteArrayList<>());
+        }
+        this.handlerMap.put(BenchmarkEvent.class, new CopyOnWriteArrayList<>(new Handler[]{handler}));
+        this.handlerArrays.set(this.typeIds.get(BenchmarkEvent.class), new Handler[]{handler});
+        this.eventBus.subscribe(this.listener);
+        this.event = new BenchmarkEvent();
+    }
+
+    @Benchmark
+    public List<Handler> mapLookup() {
+        return this.handlerMap.get(this.event.getClass());
+    }
+
+    @Benchmark
+    public Handler[] classValueLookup() {
+        return this.classValue.get(this.event.getClass());
+    }
+
+    @Benchmark
+    public Handler[] typeIdLookup() {
+        return this.handlerArrays.get(this.typeIds.get(this.event.getClass()));
+    }
+
+    /**
+     * The old {@link EventBus#post}, with a map lookup and list iteration.
+     */
+    @Benchmark
+    public boolean mapPost() {
+        List<Handler> handlers = this.handlerMap.get(this.event.getClass());
+        if (handlers == null) return false;
+        for (Handler handler : handlers) {
+            if (!this.event.isCancelled() || handler.shouldRecieveCancelled()) {
+                handler.invoke(this.event);
+            }
+        }
+        return this.event.isCancelled();
+    }
+
+    @Benchmark
+    public boolean busPost() {
+        return this.eventBus.post(this.event);
+    }
+
+    @Benchmark
+    public void listenerOnly(Blackhole blackhole) {
+        // Cost of the listener alone
+        this.listener.onEvent((BenchmarkEvent) this.event);
+        blackhole.consume(this.event.isCancelled());
+    }
+
+    public static class Listener {
+
+        public int count;
+
+        @EventListener
+        public void onEvent(BenchmarkEvent event) {
+            this.count++;
+        }
+    }
+
+    public static class BenchmarkEvent extends Event {
+
+        @Override
+        protected boolean isCancellable() {
+            return false;
+        }
+    }
+
+    public static class OtherEvent1 extends BenchmarkEvent {
+    }
+
+    public static class OtherEvent2 extends BenchmarkEvent {
+    }
+
+    public static class OtherEvent3 extends BenchmarkEvent {
+    }
+
+    public static class OtherEvent4 extends BenchmarkEvent {
+    }
+
+    public static class OtherEvent5 extends BenchmarkEvent {
+    }
+
+    public static class OtherEvent6 extends BenchmarkEvent {
+    }
+
+    public static class OtherEvent7 extends BenchmarkEvent {
+    }
+
+    public static class OtherEvent8 extends BenchmarkEvent {
+    }
+}
@@ -0,0 +1,84 @@
+package me.bush.eventbus.benchmark;
+
+import me.bush.eventbus.annotation.EventListener;
+import me.bush.eventbus.event.Event;
+import me.bush.eventbus.handler.Handler;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Cost of invoking a listener that only increments a counter, through each handler type, against calling it directly.
+ * Shows how much of {@link me.bush.eventbus.handler.handlers.MethodHandleHandler}'s invocation the JIT can fold away.
+ * Each benchmark invokes the same listener method on every subscriber, in a loop like {@link me.bush.eventbus.bus.EventBus#post},
+ * so with more subscribers the call site sees more receiver classes (one per subscriber for MethodHandleHandler).
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvocationBenchmark {
+
+    @Param({"ReflectHandler", "LambdaHandler", "ASMHandler", "MethodHandleHandler"})
+    public String handlerType;
+
+    @Param({"1", "4", "16"})
+    public int subscribers;
+
+    private final CounterEvent event = new CounterEvent();
+
+    private Counter[] counters;
+
+    private Handler[] handlers;
+
+    @Setup
+    public void setup() throws Exception {
+        Class<?> handlerType = Class.forName("me.bush.eventbus.handler.handlers." + this.handlerType);
+        this.counters = new Counter[this.subscribers];
+        this.handlers = new Handler[this.subscribers];
+        for (int i = 0; i < this.subscribers; i++) {
+            this.counters[i] = new Counter();
+            this.handlers[i] = (Handler) handlerType
+                    .getDeclaredConstructor(Method.class, Object.class, Consumer.class)
+                    .newInstance(Counter.class.getMethod("onEvent", CounterEvent.class), this.counters[i], (Consumer<String>) System.out::println);
+        }
+    }
+
+    @Benchmark
+    public int handler() {
+        for (Handler handler : this.handlers) handler.invoke(this.event);
+        return this.counters[0].count;
+    }
+
+    @Benchmark
+    public int direct() {
+        // Cost of the listeners alone
+        for (Counter counter : this.counters) counter.onEvent(this.event);
+        return this.counters[0].count;
+    }
+
+    public static class Counter {
+
+        public int count;
+
+        @EventListener
+        public void onEvent(CounterEvent event) {
+            this.count++;
+        }
+    }
+
+    public static class CounterEvent extends Event {
+
+        @Override
+        protected boolean isCancellable() {
+            return false;
+        }
+    }
+}
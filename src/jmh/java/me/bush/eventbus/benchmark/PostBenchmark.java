@@ -0,0 +1,128 @@
+package me.bush.eventbus.benchmark;
+
+import me.bush.eventbus.annotation.EventListener;
+import me.bush.eventbus.bus.EventBus;
+import me.bush.eventbus.event.Event;
+import me.bush.eventbus.handler.Handler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link EventBus#post} with several different listener methods, each in its own class with one subscriber.
+ * Unlike {@link InvocationBenchmark}, every handler goes through the same call in {@link Handler#invoke} for its type,
+ * so this shows what happens to {@link me.bush.eventbus.handler.handlers.MethodHandleHandler} once that call sees
+ * more than one or two generated classes, which also happens when they come from different listener methods.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostBenchmark {
+
+    @Param({"ReflectHandler", "LambdaHandler", "ASMHandler", "MethodHandleHandler"})
+    public String handlerType;
+
+    /**
+     * How many of the listener classes below are subscribed.
+     */
+    @Param({"1", "2", "8"})
+    public int listeners;
+
+    private final PostEvent event = new PostEvent();
+
+    private EventBus eventBus;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        Class<? extends Handler> handlerType = (Class<? extends Handler>) Class.forName("me.bush.eventbus.handler.handlers." + this.handlerType);
+        this.eventBus = new EventBus(handlerType, System.out::println);
+        Class<?>[] classes = {First.class, Second.class, Third.class, Fourth.class, Fifth.class, Sixth.class, Seventh.class, Eighth.class};
+        for (int i = 0; i < this.listeners; i++) this.eventBus.subscribe(classes[i].getDeclaredConstructor().newInstance());
+    }
+
+    @Benchmark
+    public boolean post() {
+        return this.eventBus.post(this.event);
+    }
+
+    public static class PostEvent extends Event {
+
+        public int count;
+
+        @Override
+        protected boolean isCancellable() {
+            return false;
+        }
+    }
+
+    public static class First {
+
+        @EventListener
+        public void onEvent(PostEvent event) {
+            event.count++;
+        }
+    }
+
+    public static class Second {
+
+        @EventListener
+        public void onEvent(PostEvent event) {
+            event.count++;
+        }
+    }
+
+    public static class Third {
+
+        @EventListener
+        public void onEvent(PostEvent event) {
+            event.count++;
+        }
+    }
+
+    public static class Fourth {
+
+        @EventListener
+        public void onEvent(PostEvent event) {
+            event.count++;
+        }
+    }
+
+    public static class Fifth {
+
+        @EventListener
+        public void onEvent(PostEvent event) {
+            event.count++;
+        }
+    }
+
+    public static class Sixth {
+
+        @EventListener
+        public void onEvent(PostEvent event) {
+            event.count++;
+        }
+    }
+
+    public static class Seventh {
+
+        @EventListener
+        public void onEvent(PostEvent event) {
+            event.count++;
+        }
+    }
+
+    public static class Eighth {
+
+        @EventListener
+        public void onEvent(PostEvent event) {
+            event.count++;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package me.bush.eventbus.benchmark;
+
+import me.bush.eventbus.annotation.EventListener;
+import me.bush.eventbus.annotation.ListenerPriority;
+import me.bush.eventbus.bus.EventBus;
+import me.bush.eventbus.event.Event;
+import me.bush.eventbus.handler.Handler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to register many subscribers on an empty bus, with a {@link EventBus#subscribe} loop against one
+ * {@link EventBus#subscribeAll} call, and to unsubscribe them all again. Each invocation starts from a new bus. Run with {@code ./gradlew jmh}.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SubscribeBenchmark {
+
+    @Param({"1000", "20000"})
+    public int subscribers;
+
+    @Param({"LambdaHandler", "CompactHandler"})
+    public String handlerType;
+
+    private final List<Object> listeners = new ArrayList<>();
+
+    private EventBus eventBus;
+
+    @Setup(Level.Trial)
+    public void createListeners() {
+        for (int i = 0; i < this.subscribers; i++) this.listeners.add(new Listener());
+    }
+
+    @Setup(Level.Invocation)
+    @SuppressWarnings("unchecked")
+    public void createBus() throws ClassNotFoundException {
+        this.eventBus = new EventBus((Class<? extends Handler>) Class.forName("me.bush.eventbus.handler.handlers." + this.handlerType), message -> {
+        });
+    }
+
+    @Benchmark
+    public EventBus subscribe() {
+        for (Object listener : this.listeners) this.eventBus.subscribe(listener);
+        return this.eventBus;
+    }
+
+    @Benchmark
+    public EventBus subscribeAll() {
+        this.eventBus.subscribeAll(this.listeners);
+        return this.eventBus;
+    }
+
+    @Benchmark
+    public EventBus subscribeAndUnsubscribe() {
+        for (Object listener : this.listeners) this.eventBus.subscribe(listener);
+        for (Object listener : this.listeners) this.eventBus.unsubscribe(listener);
+        return this.eventBus;
+    }
+
+    /**
+     * Listens to a few event types, with different priorities, like a typical subscriber.
+     */
+    public static class Listener {
+
+        @EventListener
+        public void onFirst(FirstEvent event) {
+        }
+
+        @EventListener(priority = ListenerPriority.HIGH)
+        public void onSecond(SecondEvent event) {
+        }
+
+        @EventListener(priority = ListenerPriority.LOW)
+        public void onThird(ThirdEvent event) {
+        }
+    }
+
+    public static class FirstEvent extends Event {
+
+        @Override
+        protected boolean isCancellable() {
+            return false;
+        }
+    }
+
+    public static class SecondEvent extends Event {
+
+        @Override
+        protected boolean isCancellable() {
+            return false;
+        }
+    }
+
+    public static class ThirdEvent extends Event {
+
+        @Override
+        protected boolean isCancellable() {
+            return false;
+        }
+    }
+}
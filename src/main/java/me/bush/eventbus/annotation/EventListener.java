@@ -1,6 +1,7 @@
 package me.bush.eventbus.annotation;
 
 import me.bush.eventbus.bus.EventBus;
+import me.bush.eventbus.dispatch.DispatchQueue;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
@@ -31,4 +32,12 @@ public @interface EventListener {
      * Whether or not this listener will be invoked when an event was previously cancelled.
      */
     boolean recieveCancelled() default false;
+
+    /**
+     * The name of a {@link DispatchQueue} added with {@link EventBus#addDispatchQueue}.
+     * If set, this listener always runs on that queue's thread: inline when posted from it, otherwise it is queued.
+     * A queued listener runs after {@link EventBus#post} returns, so cancelling the event from it has no effect on other listeners.
+     * Empty (the default) runs on whichever thread posted the event.
+     */
+    String thread() default "";
 }
@@ -0,0 +1,121 @@
+package me.bush.eventbus.bridge;
+
+import me.bush.eventbus.bus.EventBus;
+import me.bush.eventbus.codec.CodecRegistry;
+import me.bush.eventbus.event.Event;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Reads events that an {@link EventBridgeWriter} in another process wrote to a {@link SharedRingBuffer},
+ * and posts them to a local {@link EventBus}. Events are decoded straight from the mapped file, without copying.
+ *
+ * @author bush
+ * @since 10/18/2026
+ */
+public class EventBridgeReader {
+
+    /**
+     * The ring buffer to read from.
+     */
+    private final SharedRingBuffer ring;
+
+    /**
+     * Our own view of the ring buffer, so position and limit can be changed freely.
+     */
+    private final ByteBuffer view;
+
+    /**
+     * Codecs for the bridged event types. Must match the writer's.
+     */
+    private final CodecRegistry codecs;
+
+    /**
+     * The EventBus to post decoded events to.
+     */
+    private final EventBus eventBus;
+
+    /**
+     * The consumer to use for logging errors.
+     */
+    private final Consumer<String> errorLogger;
+
+    /**
+     * Position of the next record to read.
+     */
+    private long position;
+
+    /**
+     * @param ring        The ring buffer to read from. There must only be one reader per ring buffer.
+     * @param codecs      Codecs for the bridged event types. Must match the writer's.
+     * @param eventBus    The EventBus to post decoded events to.
+     * @param errorLogger The consumer to use for logging errors.
+     */
+    public EventBridgeReader(SharedRingBuffer ring, CodecRegistry codecs, EventBus eventBus, Consumer<String> errorLogger) {
+        this.ring = ring;
+        this.view = ring.view();
+        this.codecs = codecs;
+        this.eventBus = eventBus;
+        this.errorLogger = errorLogger;
+        // Continue from whatever was committed last
+        this.position = ring.getReadPosition();
+    }
+
+    /**
+     * Posts every event that has been flushed by the writer.
+     *
+     * @return The number of events posted.
+     */
+    public int poll() {
+        return this.poll(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Posts up to {@code maxEvents} events that have been flushed by the writer. The space they used
+     * is given back to the writer once they have all been posted.
+     *
+     * @param maxEvents The maximum number of events to post.
+     * @return The number of events posted.
+     */
+    public synchronized int poll(int maxEvents) {
+        long limit = this.ring.getWritePosition();
+        long start = this.position;
+        int count = 0;
+        while (this.position < limit && count < maxEvents) {
+            int index = this.ring.index(this.position);
+            ((Buffer) this.view).clear();
+            int length = this.view.getInt(index);
+            // Writer skipped the rest of the data region
+            if (length == SharedRingBuffer.WRAP) {
+                this.position += SharedRingBuffer.DATA + this.ring.getCapacity() - index;
+                continue;
+            }
+            CodecRegistry.Entry<?> entry = this.codecs.get(this.view.getInt(index + 4));
+            if (entry == null) {
+                this.errorLogger.accept("Bridge has no codec for id " + this.view.getInt(index + 4) + ", skipping.");
+            } else {
+                // Decode in place
+                int payload = index + SharedRingBuffer.RECORD_HEADER;
+                ((Buffer) this.view).limit(payload + length).position(payload);
+                Event event;
+                try {
+                    event = entry.decode(this.view);
+                } catch (RuntimeException exception) {
+                    this.errorLogger.accept("Bridge could not decode id " + entry.getId() + ", skipping.");
+                    exception.printStackTrace();
+                    event = null;
+                }
+                if (event != null) {
+                    this.eventBus.post(event);
+                    count++;
+                }
+            }
+            this.position += (SharedRingBuffer.RECORD_HEADER + length + 3) & ~3;
+        }
+        // Give the space back all at once
+        if (this.position != start) this.ring.setReadPosition(this.position);
+        return count;
+    }
+}
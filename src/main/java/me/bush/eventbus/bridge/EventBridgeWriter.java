@@ -0,0 +1,256 @@
+package me.bush.eventbus.bridge;
+
+import me.bush.eventbus.bus.EventBus;
+import me.bush.eventbus.codec.CodecRegistry;
+import me.bush.eventbus.event.Event;
+import me.bush.eventbus.interceptor.EventDispatcher;
+import me.bush.eventbus.interceptor.EventInterceptor;
+import me.bush.eventbus.util.Util;
+
+import java.io.Flushable;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Writes events into a {@link SharedRingBuffer}, for an {@link EventBridgeReader} in another process to post.
+ * Written events are only visible to the reader after {@link #flush}, which happens automatically every batch,
+ * or once the oldest unflushed event is older than the linger time, whichever comes first. The linger flush runs on
+ * a scheduler, so a trickle of events still reaches the reader without the caller scheduling {@link #flush} itself.
+ *
+ * @author bush
+ * @since 10/18/2026
+ */
+public class EventBridgeWriter implements EventInterceptor, Flushable {
+
+    /**
+     * The ring buffer to write to.
+     */
+    private final SharedRingBuffer ring;
+
+    /**
+     * Our own view of the ring buffer, so position and limit can be changed freely.
+     */
+    private final ByteBuffer view;
+
+    /**
+     * Codecs for the event types that should be bridged. Other event types are ignored.
+     */
+    private final CodecRegistry codecs;
+
+    /**
+     * Linger time used by the constructor without one, one millisecond.
+     */
+    public static final long DEFAULT_LINGER_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * How many events to write before flushing automatically.
+     */
+    private final int batchSize;
+
+    /**
+     * The longest an event stays unflushed, in nanoseconds.
+     */
+    private final long lingerNanos;
+
+    /**
+     * Runs the linger flush, or null if only {@link #write} checks the linger time.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The consumer to use for logging errors.
+     */
+    private final Consumer<String> errorLogger;
+
+    /**
+     * Position after the last written record. Only visible to the reader once flushed.
+     */
+    private long position;
+
+    /**
+     * The reader's position the last time we checked. Refreshed only when the buffer looks full.
+     */
+    private long readPosition;
+
+    /**
+     * Events written since the last flush.
+     */
+    private int pending;
+
+    /**
+     * {@link System#nanoTime} when the oldest unflushed event was written.
+     */
+    private long pendingSince;
+
+    /**
+     * Flushes after {@link #DEFAULT_LINGER_NANOS}, on a shared daemon thread.
+     *
+     * @param ring        The ring buffer to write to. There must only be one writer per ring buffer.
+     * @param codecs      Codecs for the event types to bridge. Must match the reader's.
+     * @param batchSize   How many events to write before flushing automatically. 1 flushes every event.
+     * @param errorLogger The consumer to use for logging errors.
+     */
+    public EventBridgeWriter(SharedRingBuffer ring, CodecRegistry codecs, int batchSize, Consumer<String> errorLogger) {
+        this(ring, codecs, batchSize, DEFAULT_LINGER_NANOS, LingerScheduler.INSTANCE, errorLogger);
+    }
+
+    /**
+     * @param ring        The ring buffer to write to. There must only be one writer per ring buffer.
+     * @param codecs      Codecs for the event types to bridge. Must match the reader's.
+     * @param batchSize   How many events to write before flushing automatically. 1 flushes every event.
+     * @param lingerNanos The longest an event stays unflushed, in nanoseconds.
+     * @param scheduler   Runs the linger flush. If null, the linger time is only checked when the next event is
+     *                    written, so the caller has to schedule {@link #flush} to bound the latency of the last events.
+     * @param errorLogger The consumer to use for logging errors.
+     */
+    public EventBridgeWriter(SharedRingBuffer ring, CodecRegistry codecs, int batchSize, long lingerNanos, ScheduledExecutorService scheduler, Consumer<String> errorLogger) {
+        this.ring = ring;
+        this.view = ring.view();
+        this.codecs = codecs;
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerNanos = Math.max(0, lingerNanos);
+        this.scheduler = scheduler;
+        this.errorLogger = errorLogger;
+        // Continue from whatever was committed last
+        this.position = ring.getWritePosition();
+        this.readPosition = ring.getReadPosition();
+    }
+
+    /**
+     * Writes an event if its type has a codec. If the ring buffer is full, the event is dropped and an error is logged.
+     *
+     * @param event The event to write.
+     * @return True if the event was written, false if it was ignored or dropped.
+     */
+    public synchronized boolean write(Event event) {
+        if (event == null) return false;
+        CodecRegistry.Entry<?> entry = this.codecs.get(event.getClass());
+        if (entry == null) return false;
+        if (!this.tryWrite(entry, event)) {
+            // The reader may have freed some space since we last checked
+            this.readPosition = this.ring.getReadPosition();
+            if (!this.tryWrite(entry, event)) {
+                this.errorLogger.accept("Bridge is full, dropped " + Util.formatClassName(event.getClass()) + ".");
+                return false;
+            }
+        }
+        if (++this.pending >= this.batchSize) this.flush();
+        else if (this.pending == 1) {
+            // First event of a batch, make sure it doesn't wait longer than the linger time
+            this.pendingSince = System.nanoTime();
+            if (this.scheduler != null) this.scheduleLinger();
+        } else if (System.nanoTime() - this.pendingSince >= this.lingerNanos) this.flush();
+        return true;
+    }
+
+    /**
+     * Writes the event, then passes it on. Add this to an EventBus with
+     * {@link EventBus#addInterceptor} for each event type that has a codec.
+     * If the codec throws, the error is logged and the event is still passed on.
+     */
+    @Override
+    public boolean intercept(Event event, EventDispatcher next) {
+        try {
+            this.write(event);
+        } catch (RuntimeException exception) {
+            this.errorLogger.accept("Could not write " + Util.formatClassName(event.getClass()) + " to the bridge.");
+            exception.printStackTrace();
+        }
+        return next.dispatch(event);
+    }
+
+    /**
+     * Makes every written event visible to the reader.
+     */
+    @Override
+    public synchronized void flush() {
+        if (this.pending == 0) return;
+        this.ring.setWritePosition(this.position);
+        this.pending = 0;
+    }
+
+    /**
+     * Flushes once the batch that was just started has lingered long enough. If it was already flushed, this
+     * may flush a newer batch early, which is harmless.
+     */
+    private void scheduleLinger() {
+        try {
+            this.scheduler.schedule(this::flush, this.lingerNanos, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException exception) {
+            // Shut down, events will be flushed by the next batch or linger check instead
+            this.errorLogger.accept("Could not schedule a bridge flush.");
+            exception.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes a record at the current position, or at the start of the data region if it doesn't fit before the end.
+     *
+     * @return False if there isn't enough free space.
+     */
+    private boolean tryWrite(CodecRegistry.Entry<?> entry, Event event) {
+        int capacity = this.ring.getCapacity();
+        int free = (int) (capacity - (this.position - this.readPosition));
+        int index = this.ring.index(this.position);
+        int toEnd = SharedRingBuffer.DATA + capacity - index;
+        // Try to write before the end
+        int size = this.encode(entry, event, index, Math.min(toEnd, free));
+        if (size > 0) {
+            this.position += size;
+            return true;
+        }
+        // Skipping to the start only helps if there is free space there
+        if (toEnd >= free) return false;
+        size = this.encode(entry, event, SharedRingBuffer.DATA, free - toEnd);
+        if (size < 0) return false;
+        // Tell the reader to skip the rest (this isn't visible until the position is committed)
+        ((Buffer) this.view).clear();
+        this.view.putInt(index, SharedRingBuffer.WRAP);
+        this.position += toEnd + size;
+        return true;
+    }
+
+    /**
+     * Encodes a record in place. Nothing is visible to the reader until the position is committed,
+     * so an exception from the codec leaves the ring buffer as it was.
+     *
+     * @param index Where to write the record in the file.
+     * @param room  How many bytes can be written.
+     * @return The aligned size of the record, or -1 if it didn't fit.
+     */
+    private int encode(CodecRegistry.Entry<?> entry, Event event, int index, int room) {
+        if (room < SharedRingBuffer.RECORD_HEADER) return -1;
+        int start = index + SharedRingBuffer.RECORD_HEADER;
+        // Through Buffer, so this links against Java 8 when built with a newer JDK
+        ((Buffer) this.view).clear();
+        ((Buffer) this.view).limit(index + room).position(start);
+        try {
+            entry.encode(event, this.view);
+        } catch (BufferOverflowException exception) {
+            return -1;
+        }
+        int length = this.view.position() - start;
+        this.view.putInt(index, length);
+        this.view.putInt(index + 4, entry.getId());
+        // Keep records aligned so headers never straddle the end
+        return (SharedRingBuffer.RECORD_HEADER + length + 3) & ~3;
+    }
+
+    /**
+     * Lazily creates the shared scheduler used by writers that don't provide one.
+     */
+    private static final class LingerScheduler {
+
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "EventBridge linger");
+            // Don't keep the process alive
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
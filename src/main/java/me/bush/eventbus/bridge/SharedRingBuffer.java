@@ -0,0 +1,267 @@
+package me.bush.eventbus.bridge;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A single producer, single consumer ring buffer in a memory-mapped file, so two processes on the same host can share it.
+ * <p>
+ * Layout: a header with {@link #MAGIC} and the capacity at byte 0, the committed write position at byte 64, the committed
+ * read position at byte 128 (separate cache lines), and the data region from byte 192. Positions only ever increase;
+ * the index into the data region is {@code position & mask}. Positions are published with release/acquire
+ * semantics on the mapped memory, so a position is never seen before the records it covers.
+ * Records are {@code [int length][int id][payload]}, aligned to 4 bytes. A length of -1 means "skip to the start".
+ * <p>
+ * {@link ByteBuffer} has no ordered access, so the positions are read and written with {@code sun.misc.Unsafe}, which
+ * is looked up reflectively (there is no compile-time reference, so no warnings). It is present on every HotSpot-based
+ * Java 8+ runtime; if it is missing, this class fails to initialize.
+ *
+ * @author bush
+ * @since 10/18/2026
+ * @see EventBridgeWriter
+ * @see EventBridgeReader
+ */
+public class SharedRingBuffer implements Closeable {
+
+    /**
+     * Written at the start of the file, "EVRB".
+     */
+    static final int MAGIC = 0x45565242;
+
+    static final int HEADER = 0;
+
+    static final int WRITE_POSITION = 64;
+
+    static final int READ_POSITION = 128;
+
+    static final int DATA = 192;
+
+    /**
+     * Size of a record header (length and id).
+     */
+    static final int RECORD_HEADER = 8;
+
+    /**
+     * Length written in place of a record when the rest of the data region is skipped.
+     */
+    static final int WRAP = -1;
+
+    /**
+     * {@code Unsafe#getLongVolatile(Object, long)}, bound to the Unsafe instance. Static final, so the JIT treats it as a constant.
+     */
+    private static final MethodHandle GET_LONG_VOLATILE;
+
+    /**
+     * {@code Unsafe#putOrderedLong(Object, long, long)}, bound to the Unsafe instance.
+     */
+    private static final MethodHandle PUT_ORDERED_LONG;
+
+    /**
+     * {@code Unsafe#storeFence()}, bound to the Unsafe instance.
+     */
+    private static final MethodHandle STORE_FENCE;
+
+    /**
+     * {@code Unsafe#getLong(Object, long)}, bound to the Unsafe instance. Reads {@link Buffer}'s native address
+     * field, which can't be made accessible with reflection on newer runtimes.
+     */
+    private static final MethodHandle GET_LONG;
+
+    /**
+     * Offset of {@link Buffer}'s native address field.
+     */
+    private static final long ADDRESS_OFFSET;
+
+    static {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            GET_LONG_VOLATILE = lookup.findVirtual(unsafeClass, "getLongVolatile", MethodType.methodType(long.class, Object.class, long.class)).bindTo(unsafe);
+            PUT_ORDERED_LONG = lookup.findVirtual(unsafeClass, "putOrderedLong", MethodType.methodType(void.class, Object.class, long.class, long.class)).bindTo(unsafe);
+            STORE_FENCE = lookup.findVirtual(unsafeClass, "storeFence", MethodType.methodType(void.class)).bindTo(unsafe);
+            GET_LONG = lookup.findVirtual(unsafeClass, "getLong", MethodType.methodType(long.class, Object.class, long.class)).bindTo(unsafe);
+            ADDRESS_OFFSET = (long) lookup.findVirtual(unsafeClass, "objectFieldOffset", MethodType.methodType(long.class, Field.class))
+                    .invoke(unsafe, Buffer.class.getDeclaredField("address"));
+        } catch (Throwable throwable) {
+            throw new ExceptionInInitializerError(throwable);
+        }
+    }
+
+    /**
+     * The mapped file.
+     */
+    private final MappedByteBuffer buffer;
+
+    /**
+     * The channel the file was mapped from.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Size of the data region, always a power of two.
+     */
+    private final int capacity;
+
+    /**
+     * Native address of the start of the mapping.
+     */
+    private final long address;
+
+    private SharedRingBuffer(FileChannel channel, int capacity) throws IOException {
+        this.channel = channel;
+        this.capacity = capacity;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, DATA + capacity);
+        try {
+            this.address = (long) GET_LONG.invokeExact((Object) this.buffer, ADDRESS_OFFSET);
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Maps a ring buffer file, creating it if it doesn't exist. Both processes must use the same capacity,
+     * which is stored in the file and checked when it is opened again.
+     *
+     * @param file     The file to map. A file on a tmpfs (like /dev/shm) avoids disk writeback.
+     * @param capacity Size of the data region in bytes, must be a power of two.
+     * @return The mapped ring buffer.
+     * @throws IOException If the file couldn't be opened or mapped, isn't a ring buffer, or has a different capacity.
+     */
+    public static SharedRingBuffer open(Path file, int capacity) throws IOException {
+        if (capacity < RECORD_HEADER || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two, got " + capacity + ".");
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            // Check before mapping, so a file with a smaller capacity isn't extended
+            checkHeader(channel, file, capacity);
+            SharedRingBuffer ring = new SharedRingBuffer(channel, capacity);
+            // New file, the other process may be doing this too (with the same values)
+            if (ring.buffer.getInt(HEADER) == 0) {
+                ring.buffer.putInt(HEADER + 4, capacity);
+                storeFence();
+                ring.buffer.putInt(HEADER, MAGIC);
+            }
+            return ring;
+        } catch (IOException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * @throws IOException If the file already has a header, and it isn't a ring buffer with the same capacity.
+     */
+    private static void checkHeader(FileChannel channel, Path file, int capacity) throws IOException {
+        if (channel.size() < 8) return;
+        ByteBuffer header = ByteBuffer.allocate(8);
+        while (header.hasRemaining()) {
+            if (channel.read(header, HEADER + header.position()) == -1) return;
+        }
+        ((Buffer) header).flip();
+        int magic = header.getInt();
+        int existing = header.getInt();
+        // Not initialized yet
+        if (magic == 0) return;
+        if (magic != MAGIC) {
+            throw new IOException(file + " is not a ring buffer file.");
+        }
+        if (existing != capacity) {
+            throw new IOException(file + " has a capacity of " + existing + ", not " + capacity + ".");
+        }
+    }
+
+    /**
+     * @return Size of the data region in bytes.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * @return A new view of the whole file, with its own position and limit.
+     */
+    ByteBuffer view() {
+        return this.buffer.duplicate();
+    }
+
+    /**
+     * @return The index in the file of a position.
+     */
+    int index(long position) {
+        return DATA + (int) (position & (this.capacity - 1));
+    }
+
+    /**
+     * Acquire load, so records written before the position was published are visible.
+     */
+    long getWritePosition() {
+        return getLongVolatile(this.address + WRITE_POSITION);
+    }
+
+    /**
+     * Release store, so the records before the position are visible before the position is.
+     */
+    void setWritePosition(long position) {
+        putOrderedLong(this.address + WRITE_POSITION, position);
+    }
+
+    /**
+     * Acquire load, so the space before the position is only written after the reader is done with it.
+     */
+    long getReadPosition() {
+        return getLongVolatile(this.address + READ_POSITION);
+    }
+
+    /**
+     * Release store, so every record before the position has been read before the writer can reuse its space.
+     */
+    void setReadPosition(long position) {
+        putOrderedLong(this.address + READ_POSITION, position);
+    }
+
+    private static long getLongVolatile(long address) {
+        try {
+            return (long) GET_LONG_VOLATILE.invokeExact((Object) null, address);
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    private static void putOrderedLong(long address, long value) {
+        try {
+            PUT_ORDERED_LONG.invokeExact((Object) null, address, value);
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    private static void storeFence() {
+        try {
+            STORE_FENCE.invokeExact();
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Closes the file. The mapping stays valid until it is garbage collected, so don't use this ring buffer afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
@@ -1,18 +1,38 @@
 package me.bush.eventbus.bus;
 
 import me.bush.eventbus.annotation.EventListener;
+import me.bush.eventbus.dispatch.DispatchQueue;
 import me.bush.eventbus.event.Event;
 import me.bush.eventbus.handler.Handler;
+import me.bush.eventbus.handler.QueuedHandler;
+import me.bush.eventbus.handler.handlers.CompactHandler;
 import me.bush.eventbus.handler.handlers.LambdaHandler;
 import me.bush.eventbus.handler.handlers.ReflectHandler;
+import me.bush.eventbus.interceptor.EventDispatcher;
+import me.bush.eventbus.interceptor.EventInterceptor;
+import me.bush.eventbus.stream.EventPublisher;
+import me.bush.eventbus.stream.OverflowStrategy;
 import me.bush.eventbus.util.Util;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * @author bush
@@ -24,20 +44,89 @@ public class EventBus {
     // Handler = The object that handles listener invocation
     // Subscriber = The object or class that a listener is in
 
+    /**
+     * Classpath resource listing classes with static listeners, one binary class name per line.
+     * Written at compile time by {@code ListenerIndexProcessor} (the {@code processor} artifact), and read by {@link #subscribeIndexed}.
+     */
+    public static final String INDEX_FILE = "META-INF/eventbus.index";
+
     /**
      * A set for quickly checking if an object or class is already subscribed.
+     * Subscribing and unsubscribing hold the lock on this set, so they can't overlap with publishing a rebuilt handler map.
      */
     private final Set<Object> subscribers = Collections.synchronizedSet(new HashSet<>());
 
     /**
      * Maps handlers by event type, with one arraylist of handlers for each event type.
+     * Replaced all at once by {@link #setHandlerTypeAsync}, so posting never sees a partial map.
+     */
+    private volatile Map<Class<?>, List<Handler>> handlerMap = new ConcurrentHashMap<>();
+
+    /**
+     * Interceptors by event type, in the order they were added. Guarded by {@link #subscribers}.
+     */
+    private final Map<Class<?>, List<EventInterceptor>> interceptorMap = new HashMap<>();
+
+    /**
+     * Interceptor chains by event type, composed from {@link #interceptorMap} whenever it changes.
      */
-    private Map<Class<?>, List<Handler>> handlerMap = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, EventDispatcher> interceptorChains = Collections.emptyMap();
+
+    /**
+     * Gives every event class a small id, shared by all EventBuses, which is its index in {@link #dispatches}.
+     * Only holds integers, so it doesn't keep any EventBus or subscriber alive.
+     */
+    private static final ClassValue<Integer> typeIds = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return typeCount.getAndIncrement();
+        }
+    };
+
+    /**
+     * The next id {@link #typeIds} will give out.
+     */
+    private static final AtomicInteger typeCount = new AtomicInteger();
+
+    /**
+     * What {@link #post} needs for each event type, indexed by {@link #typeIds}.
+     * This is faster than looking the event type up in {@link #handlerMap} every time.
+     * Each entry is checked against {@link #version}, and rebuilt when it is outdated or missing.
+     * Replaced with an empty array by {@link #invalidate}, so unsubscribed handlers aren't kept around.
+     */
+    private volatile AtomicReferenceArray<Dispatch> dispatches = new AtomicReferenceArray<>(16);
+
+    /**
+     * Incremented after every change to the handler map or interceptors, which makes every entry
+     * in {@link #dispatches} outdated. Only changed while holding the lock on {@link #subscribers}.
+     */
+    private volatile int version;
+
+    /**
+     * Dispatch queues by name, for listeners with {@link EventListener#thread}.
+     */
+    private final Map<String, DispatchQueue> dispatchQueues = new ConcurrentHashMap<>();
 
     /**
      * The current handler type to use when adding listeners from subscribers.
      */
-    private Class<? extends Handler> handlerType;
+    private volatile Class<? extends Handler> handlerType;
+
+    /**
+     * The handler type most recently passed to {@link #setHandlerTypeAsync}. Differs from
+     * {@link #handlerType} while a rebuild is running. Guarded by {@link #subscribers}.
+     */
+    private Class<? extends Handler> pendingHandlerType;
+
+    /**
+     * Completes when the most recent rebuild has been published. Guarded by {@link #subscribers}.
+     */
+    private CompletableFuture<Void> rebuild = CompletableFuture.completedFuture(null);
+
+    /**
+     * Incremented every time a rebuild starts, so an outdated rebuild doesn't get published. Guarded by {@link #subscribers}.
+     */
+    private int rebuildCount;
 
     /**
      * The consumer to use for logging errors.
@@ -103,6 +192,7 @@ public class EventBus {
      */
     public EventBus(Class<? extends Handler> handlerType, Consumer<String> errorLogger, Consumer<String> infoLogger) {
         this.handlerType = handlerType;
+        this.pendingHandlerType = handlerType;
         this.errorLogger = errorLogger;
         this.infoLogger = infoLogger;
     }
@@ -115,34 +205,191 @@ public class EventBus {
      * @param subscriber An object or class to subscribe.
      */
     public void subscribe(Object subscriber) {
-        if (subscriber == null || this.subscribers.contains(subscriber)) return;
-        // Add subscriber to cache
-        this.subscribers.add(subscriber);
-        // Add handlers from subscriber
-        this.addHandlers(subscriber);
+        if (subscriber == null) return;
+        synchronized (this.subscribers) {
+            // Add subscriber to cache
+            if (!this.subscribers.add(subscriber)) return;
+            // Add handlers from subscriber
+            this.addHandlers(subscriber, this.handlerMap, this.handlerType);
+            this.invalidate();
+        }
+    }
+
+    /**
+     * Subscribes many objects/classes at once. Listeners are found in parallel, each event type's handler list is
+     * sorted and copied once, and every new listener becomes visible to {@link #post} at the same time.
+     * Same result as calling {@link #subscribe} for each one, but much faster for large numbers of subscribers.
+     *
+     * @param subscribers Objects and classes to subscribe. Nulls and ones that are already subscribed are skipped.
+     */
+    public void subscribeAll(Collection<?> subscribers) {
+        if (subscribers == null || subscribers.isEmpty()) return;
+        // Skip ones that are already subscribed, so we don't create handlers for nothing
+        Set<Object> added = new LinkedHashSet<>();
+        synchronized (this.subscribers) {
+            subscribers.stream().filter(subscriber -> subscriber != null && !this.subscribers.contains(subscriber)).forEach(added::add);
+        }
+        if (added.isEmpty()) return;
+        // Find handlers without holding the lock
+        Class<? extends Handler> handlerType = this.handlerType;
+        Map<Object, List<Map.Entry<Class<?>, Handler>>> found = this.findAllHandlers(added, handlerType);
+        synchronized (this.subscribers) {
+            // A rebuild was published in the meantime, the handlers need to be the new type
+            if (handlerType != this.handlerType) found = this.findAllHandlers(added, this.handlerType);
+            // Group by event type
+            Map<Class<?>, List<Handler>> grouped = new HashMap<>();
+            found.forEach((subscriber, handlers) -> {
+                // Subscribed by another thread in the meantime
+                if (!this.subscribers.add(subscriber)) return;
+                handlers.forEach(entry -> grouped.computeIfAbsent(entry.getKey(), v -> new ArrayList<>()).add(entry.getValue()));
+            });
+            // Copy the map, and replace the lists that changed
+            Map<Class<?>, List<Handler>> handlerMap = new ConcurrentHashMap<>(this.handlerMap);
+            grouped.forEach((eventType, handlers) -> {
+                List<Handler> existing = handlerMap.get(eventType);
+                // Existing handlers go first, so equal priorities stay in the order they were subscribed
+                if (existing != null) handlers.addAll(0, existing);
+                List<Handler> combined = this.combineCompactHandlers(handlers);
+                combined.sort(Comparator.comparing(Handler::getPriority));
+                handlerMap.put(eventType, new CopyOnWriteArrayList<>(combined));
+            });
+            this.handlerMap = handlerMap;
+            this.invalidate();
+        }
+    }
+
+    /**
+     * Subscribes every class listed in {@link #INDEX_FILE} on the classpath, so their static listeners recieve events.
+     * Classes that can't be found are logged and skipped.
+     *
+     * @param classLoader The class loader to find index files and classes with.
+     * @throws IOException If an index file couldn't be read.
+     */
+    public void subscribeIndexed(ClassLoader classLoader) throws IOException {
+        List<Object> classes = new ArrayList<>();
+        // There may be one index per jar
+        Enumeration<URL> indexes = classLoader.getResources(INDEX_FILE);
+        while (indexes.hasMoreElements()) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexes.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#")) continue;
+                    try {
+                        classes.add(Class.forName(line, false, classLoader));
+                    } catch (ClassNotFoundException exception) {
+                        this.errorLogger.accept("Indexed class " + line + " could not be found.");
+                    }
+                }
+            }
+        }
+        this.subscribeAll(classes);
     }
 
     /**
      * Posts an {@link Event} to the EventBus. Every listener with the given event
      * type is called, in order of {@link EventListener#priority}. If the event was cancelled by
      * a previous listener, only future listeners with {@link EventListener#recieveCancelled} will be invoked.
+     * Interceptors for the event type run around all of this, see {@link #addInterceptor}.
      *
      * @param event The {@link Event} to post.
      * @return True if the event was cancelled, false otherwise.
      */
     public boolean post(Event event) {
         if (event == null) return false;
-        // Get list of handlers with this event type
-        List<Handler> handlers = this.handlerMap.get(event.getClass());
-        if (handlers == null) return false;
-        // Invoke each handler (list is already sorted)
-        for (Handler handler : handlers) {
-            if (!event.isCancelled() || handler.shouldRecieveCancelled()) {
-                handler.invoke(event);
-            }
+        Dispatch dispatch = this.getDispatch(event.getClass());
+        // Go through interceptors if this event type has any
+        if (dispatch.chain != null) return dispatch.chain.dispatch(event);
+        return this.invoke(event, dispatch.handlers);
+    }
+
+    /**
+     * Adds an interceptor that runs around {@link #post} for one event type. Interceptors
+     * run in the order they were added, before any listeners.
+     *
+     * @param eventType   The exact event type to intercept.
+     * @param interceptor The interceptor to add.
+     */
+    public void addInterceptor(Class<? extends Event> eventType, EventInterceptor interceptor) {
+        if (eventType == null || interceptor == null) return;
+        synchronized (this.subscribers) {
+            this.interceptorMap.computeIfAbsent(eventType, v -> new ArrayList<>()).add(interceptor);
+            this.composeInterceptors();
+        }
+    }
+
+    /**
+     * Removes an interceptor that was added with {@link #addInterceptor}.
+     *
+     * @param eventType   The event type it was added for.
+     * @param interceptor The interceptor to remove.
+     */
+    public void removeInterceptor(Class<? extends Event> eventType, EventInterceptor interceptor) {
+        synchronized (this.subscribers) {
+            List<EventInterceptor> interceptors = this.interceptorMap.get(eventType);
+            if (interceptors == null || !interceptors.remove(interceptor)) return;
+            if (interceptors.isEmpty()) this.interceptorMap.remove(eventType);
+            this.composeInterceptors();
         }
-        // Return true if the event was cancelled
-        return event.isCancelled();
+    }
+
+    /**
+     * Creates a stream of one event type, with a bounded buffer for each of its subscribers. The publisher is
+     * subscribed like any other subscriber, and {@link EventPublisher#close} unsubscribes it.
+     *
+     * @param eventType  The exact event type to stream.
+     * @param bufferSize How many events each subscriber can have buffered.
+     * @param overflow   What to do when a subscriber's buffer is full.
+     * @param executor   Sends events to subscribers, so posting never waits for them.
+     * @return A new publisher, already subscribed.
+     */
+    public <T extends Event> EventPublisher<T> publisher(Class<T> eventType, int bufferSize, OverflowStrategy overflow, Executor executor) {
+        EventPublisher<T> publisher = new EventPublisher<>(this, eventType, bufferSize, overflow, executor, this.errorLogger);
+        this.subscribe(publisher);
+        return publisher;
+    }
+
+    /**
+     * Creates a stream of one event type that sends events to subscribers on {@link ForkJoinPool#commonPool}.
+     *
+     * @param eventType  The exact event type to stream.
+     * @param bufferSize How many events each subscriber can have buffered.
+     * @param overflow   What to do when a subscriber's buffer is full.
+     * @return A new publisher, already subscribed.
+     * @see #publisher(Class, int, OverflowStrategy, Executor)
+     */
+    public <T extends Event> EventPublisher<T> publisher(Class<T> eventType, int bufferSize, OverflowStrategy overflow) {
+        return this.publisher(eventType, bufferSize, overflow, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a stream of one event type, buffering up to 256 events for each of its subscribers and dropping the oldest after that.
+     *
+     * @param eventType The exact event type to stream.
+     * @return A new publisher, already subscribed.
+     * @see #publisher(Class, int, OverflowStrategy, Executor)
+     */
+    public <T extends Event> EventPublisher<T> publisher(Class<T> eventType) {
+        return this.publisher(eventType, 256, OverflowStrategy.DROP_OLDEST);
+    }
+
+    /**
+     * Adds a dispatch queue, so listeners with a matching {@link EventListener#thread} run on its thread.
+     * Listeners that were subscribed before their queue was added run on the posting thread until it is.
+     *
+     * @param name  The name listeners use to refer to this queue.
+     * @param queue The queue.
+     */
+    public void addDispatchQueue(String name, DispatchQueue queue) {
+        if (name == null || name.isEmpty() || queue == null) return;
+        this.dispatchQueues.put(name, queue);
+    }
+
+    /**
+     * @return The dispatch queue with this name, or null if there isn't one.
+     */
+    public DispatchQueue getDispatchQueue(String name) {
+        return this.dispatchQueues.get(name);
     }
 
     /**
@@ -151,13 +398,13 @@ public class EventBus {
      * @param subscriber The object/class to unsubscribe.
      */
     public void unsubscribe(Object subscriber) {
-        if (subscriber == null || !this.subscribers.contains(subscriber)) return;
-        // Remove from subscriber cache
-        this.subscribers.remove(subscriber);
-        // Get values from handlermap, remove handlers that are from this subscriber
-        this.handlerMap.values().forEach(handlers -> handlers.removeIf(handler -> handler.isSubscriber(subscriber)));
-        // Remove entry from handlermap if there are no handlers for an event type
-        this.handlerMap.entrySet().removeIf(entry -> entry.getValue().isEmpty());
+        if (subscriber == null) return;
+        synchronized (this.subscribers) {
+            // Remove from subscriber cache
+            if (!this.subscribers.remove(subscriber)) return;
+            this.removeHandlers(subscriber, this.handlerMap);
+            this.invalidate();
+        }
     }
 
     /**
@@ -172,13 +419,13 @@ public class EventBus {
         // Subscriber count
         this.infoLogger.accept(String.format(format, "Subscriber count", this.subscribers.size()));
         // Get total listener count
-        int total = this.handlerMap.values().stream().mapToInt(Collection::size).sum();
+        int total = this.handlerMap.values().stream().mapToInt(EventBus::countListeners).sum();
         // Log total
         this.infoLogger.accept(String.format(format, "Listener count", total));
         // For every key
         this.handlerMap.forEach((eventType, handlers) -> {
             // Get count of listeners
-            int listenerCount = handlers.size();
+            int listenerCount = countListeners(handlers);
             // Get name (Class#getSimpleName would just show "Post" instead of "SettingEvent$Post")
             String eventName = Util.formatClassName(eventType);
             // Log info
@@ -187,31 +434,354 @@ public class EventBus {
     }
 
     /**
-     * Get the current {@link Handler} type being used.
+     * Get the current {@link Handler} type being used. While a rebuild started by
+     * {@link #setHandlerTypeAsync} is running, this is still the old type.
      */
     public Class<? extends Handler> getHandlerType() {
         return this.handlerType;
     }
 
     /**
-     * Changes the {@link Handler} type to the specified type.
-     * Calling this will remake the handler map, and re-add every listener with the new type.
+     * Changes the {@link Handler} type to the specified type, and waits until it is being used.
+     * See {@link #setHandlerTypeAsync} to switch without waiting.
+     *
+     * @param handlerType The type of {@link Handler} to use.
+     * @throws RuntimeException If creating the handlers failed, in which case the old type is still used.
+     * @throws Error            Same as above, for example if the handler type couldn't be initialized.
      */
     public void setHandlerType(Class<? extends Handler> handlerType) {
-        if (this.handlerType == handlerType) return;
-        this.handlerType = handlerType;
-        // Reset handler map (.clear() doesn't remove entries, just sets them to null)
-        this.handlerMap = new ConcurrentHashMap<>();
-        // Re-add with new listener type (iterating over a hashset :\, but performance isn't important here)
-        this.subscribers.forEach(this::addHandlers);
+        try {
+            this.setHandlerTypeAsync(handlerType).join();
+        } catch (CompletionException exception) {
+            // Throw what the rebuild threw, like switching on the calling thread would
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw exception;
+        }
+    }
+
+    /**
+     * Changes the {@link Handler} type to the specified type.
+     * A new handler map is built in the background, creating handlers for every subscriber in parallel. Posting keeps
+     * using the old handler map until the new one is published. Subscribers added or removed during the rebuild are
+     * carried over when it is published. If this is called again before the rebuild finishes, only the newest one is
+     * published, and the older futures complete along with it.
+     *
+     * @param handlerType The type of {@link Handler} to use.
+     * @return A future that completes once the newest handler type is being used, or completes exceptionally if
+     * creating the handlers failed. The old type is then still used, and switching to the failed type again retries.
+     */
+    public CompletableFuture<Void> setHandlerTypeAsync(Class<? extends Handler> handlerType) {
+        synchronized (this.subscribers) {
+            // Already using or switching to this type
+            if (this.pendingHandlerType == handlerType) return this.rebuild;
+            this.pendingHandlerType = handlerType;
+            int rebuildCount = ++this.rebuildCount;
+            Set<Object> snapshot = new HashSet<>(this.subscribers);
+            CompletableFuture<Void> rebuild = new CompletableFuture<>();
+            this.rebuild = rebuild;
+            CompletableFuture
+                    .supplyAsync(() -> this.buildHandlerMap(snapshot, handlerType))
+                    .thenAccept(handlerMap -> {
+                        CompletableFuture<Void> newer = this.publishHandlerMap(handlerMap, snapshot, handlerType, rebuildCount);
+                        // Superseded, finish when the newer rebuild does
+                        if (newer != null) newer.whenComplete((result, throwable) -> {
+                            if (throwable == null) rebuild.complete(null);
+                            else rebuild.completeExceptionally(throwable);
+                        });
+                        else rebuild.complete(null);
+                    })
+                    .exceptionally(throwable -> {
+                        // Log errors, since the caller may never look at the future
+                        this.errorLogger.accept("Could not switch to " + Util.formatClassName(handlerType) + ".");
+                        throwable.printStackTrace();
+                        synchronized (this.subscribers) {
+                            // Still the newest rebuild, so switching to this type again should try again
+                            if (rebuildCount == this.rebuildCount) this.pendingHandlerType = this.handlerType;
+                        }
+                        rebuild.completeExceptionally(throwable);
+                        return null;
+                    });
+            return rebuild;
+        }
+    }
+
+    /**
+     * Invokes every listener for the event's type, without going through interceptors.
+     *
+     * @param event The {@link Event} to post.
+     * @return True if the event was cancelled, false otherwise.
+     */
+    private boolean dispatch(Event event) {
+        return this.invoke(event, this.getDispatch(event.getClass()).handlers);
+    }
+
+    /**
+     * Invokes handlers in order.
+     *
+     * @param event    The {@link Event} to post.
+     * @param handlers The handlers for the event's type, already sorted.
+     * @return True if the event was cancelled, false otherwise.
+     */
+    private boolean invoke(Event event, Handler[] handlers) {
+        if (handlers.length == 0) return false;
+        // Invoke each handler (array is already sorted)
+        for (Handler handler : handlers) {
+            if (!event.isCancelled() || handler.shouldRecieveCancelled()) {
+                handler.invoke(event);
+            }
+        }
+        // Return true if the event was cancelled
+        return event.isCancelled();
+    }
+
+    /**
+     * Gets the cached handlers and interceptor chain for an event type, rebuilding them if they are outdated.
+     *
+     * @param eventType The exact event type.
+     * @return An up to date {@link Dispatch}.
+     */
+    private Dispatch getDispatch(Class<?> eventType) {
+        int id = typeIds.get(eventType);
+        AtomicReferenceArray<Dispatch> dispatches = this.dispatches;
+        if (id < dispatches.length()) {
+            Dispatch dispatch = dispatches.get(id);
+            if (dispatch != null && dispatch.version == this.version) return dispatch;
+        }
+        // Read the version before the handlers, so a change made while this runs leaves the new entry outdated
+        int version = this.version;
+        List<Handler> handlers = this.handlerMap.get(eventType);
+        Dispatch dispatch = new Dispatch(version, handlers == null ? Dispatch.NO_HANDLERS : handlers.toArray(Dispatch.NO_HANDLERS), this.interceptorChains.get(eventType));
+        dispatches = this.dispatches;
+        if (id >= dispatches.length()) dispatches = this.growDispatches(id);
+        dispatches.set(id, dispatch);
+        // Changed while this was running, don't leave the outdated entry holding on to removed handlers
+        if (version != this.version) dispatches.compareAndSet(id, dispatch, null);
+        return dispatch;
+    }
+
+    /**
+     * Makes {@link #dispatches} big enough for an event type id. Only happens the first time an event
+     * type with a new id is posted, so it takes the lock instead of racing other posting threads.
+     *
+     * @param id The event type's id from {@link #typeIds}.
+     * @return The new array, which is empty.
+     */
+    private AtomicReferenceArray<Dispatch> growDispatches(int id) {
+        synchronized (this.subscribers) {
+            AtomicReferenceArray<Dispatch> dispatches = this.dispatches;
+            if (id < dispatches.length()) return dispatches;
+            // Entries are dropped, they'll be rebuilt the next time their event type is posted
+            dispatches = new AtomicReferenceArray<>(Math.max(id + 1, dispatches.length() * 2));
+            this.dispatches = dispatches;
+            return dispatches;
+        }
+    }
+
+    /**
+     * Outdates every entry in {@link #dispatches} after the handler map or interceptors changed, and drops
+     * them right away so removed handlers and subscribers can be garbage collected.
+     * Must hold the lock on {@link #subscribers}.
+     */
+    private void invalidate() {
+        this.version++;
+        this.dispatches = new AtomicReferenceArray<>(this.dispatches.length());
+    }
+
+    /**
+     * Rebuilds {@link #interceptorChains} from {@link #interceptorMap}. Each chain is composed
+     * once here, so posting doesn't have to loop over interceptors. Must hold the lock on {@link #subscribers}.
+     */
+    private void composeInterceptors() {
+        Map<Class<?>, EventDispatcher> chains = new HashMap<>();
+        this.interceptorMap.forEach((eventType, interceptors) -> {
+            // Start with the listeners, and wrap backwards so the first interceptor runs first
+            EventDispatcher chain = this::dispatch;
+            for (int i = interceptors.size() - 1; i >= 0; i--) {
+                EventInterceptor interceptor = interceptors.get(i);
+                EventDispatcher next = chain;
+                chain = event -> interceptor.intercept(event, next);
+            }
+            chains.put(eventType, chain);
+        });
+        this.interceptorChains = chains;
+        this.invalidate();
+    }
+
+    /**
+     * Creates handlers for every subscriber. Subscribers are searched in parallel, and each list is sorted once.
+     *
+     * @param subscribers The subscribers to create handlers for.
+     * @param handlerType The type of {@link Handler} to create.
+     * @return A new handler map, not yet visible to {@link #post}.
+     */
+    private Map<Class<?>, List<Handler>> buildHandlerMap(Set<Object> subscribers, Class<? extends Handler> handlerType) {
+        // Group by event type
+        Map<Class<?>, List<Handler>> grouped = new HashMap<>();
+        this.findAllHandlers(subscribers, handlerType).values().forEach(handlers -> handlers.forEach(entry -> grouped.computeIfAbsent(entry.getKey(), v -> new ArrayList<>()).add(entry.getValue())));
+        // Sort each list once, and copy it into the list posting will use
+        Map<Class<?>, List<Handler>> handlerMap = new ConcurrentHashMap<>();
+        grouped.forEach((eventType, handlers) -> {
+            List<Handler> combined = this.combineCompactHandlers(handlers);
+            combined.sort(Comparator.comparing(Handler::getPriority));
+            handlerMap.put(eventType, new CopyOnWriteArrayList<>(combined));
+        });
+        return handlerMap;
+    }
+
+    /**
+     * Combines {@link CompactHandler}s for the same listener method into one, where the first of them was.
+     * Other handlers are left as they are.
+     *
+     * @param handlers Handlers for one event type, in the order they were subscribed.
+     * @return The combined handlers, or the same list if there were no compact handlers.
+     */
+    private List<Handler> combineCompactHandlers(List<Handler> handlers) {
+        // Either a handler, or the listener method of a group of compact handlers
+        List<Object> order = new ArrayList<>(handlers.size());
+        Map<Method, List<CompactHandler>> groups = new HashMap<>();
+        for (Handler handler : handlers) {
+            if (!(handler instanceof CompactHandler)) {
+                order.add(handler);
+                continue;
+            }
+            Method listener = ((CompactHandler) handler).getListener();
+            List<CompactHandler> group = groups.get(listener);
+            if (group == null) {
+                groups.put(listener, group = new ArrayList<>());
+                order.add(listener);
+            }
+            group.add((CompactHandler) handler);
+        }
+        if (groups.isEmpty()) return handlers;
+        List<Handler> combined = new ArrayList<>(order.size());
+        order.forEach(entry -> combined.add(entry instanceof Method ? CompactHandler.combine(groups.get(entry)) : (Handler) entry));
+        return combined;
+    }
+
+    /**
+     * @param handlers Handlers for one event type.
+     * @return How many listeners they invoke, counting each receiver of a {@link CompactHandler}.
+     */
+    private static int countListeners(Collection<Handler> handlers) {
+        return handlers.stream().mapToInt(handler -> handler instanceof CompactHandler ? ((CompactHandler) handler).getReceiverCount() : 1).sum();
+    }
+
+    /**
+     * Finds handlers for many subscribers in parallel.
+     *
+     * @param subscribers The subscribers to search.
+     * @param handlerType The type of {@link Handler} to create.
+     * @return Each subscriber's event types and handlers, in the same order as the subscribers.
+     */
+    private Map<Object, List<Map.Entry<Class<?>, Handler>>> findAllHandlers(Collection<Object> subscribers, Class<? extends Handler> handlerType) {
+        List<List<Map.Entry<Class<?>, Handler>>> found = subscribers.parallelStream()
+                .map(subscriber -> {
+                    List<Map.Entry<Class<?>, Handler>> handlers = new ArrayList<>();
+                    this.findHandlers(subscriber, handlerType, (eventType, handler) -> handlers.add(new AbstractMap.SimpleEntry<>(eventType, handler)));
+                    return handlers;
+                })
+                .collect(Collectors.toList());
+        // Parallel streams keep encounter order, so this lines up with the subscribers
+        Map<Object, List<Map.Entry<Class<?>, Handler>>> bySubscriber = new LinkedHashMap<>();
+        Iterator<List<Map.Entry<Class<?>, Handler>>> iterator = found.iterator();
+        subscribers.forEach(subscriber -> bySubscriber.put(subscriber, iterator.next()));
+        return bySubscriber;
     }
 
     /**
-     * Finds listener methods in an object or class, creates handlers from them, and adds them to the handler map.
+     * Publishes a handler map built by {@link #buildHandlerMap}, after catching it up with any
+     * subscribers that were added or removed while it was being built.
      *
-     * @param subscriber The object or class to search in.
+     * @param handlerMap   The new handler map.
+     * @param snapshot     The subscribers it was built from.
+     * @param handlerType  The type of {@link Handler} it was built with.
+     * @param rebuildCount The value of {@link #rebuildCount} when it was started.
+     * @return Null if it was published, or the newer rebuild's future if it was superseded.
      */
-    private void addHandlers(Object subscriber) {
+    private CompletableFuture<Void> publishHandlerMap(Map<Class<?>, List<Handler>> handlerMap, Set<Object> snapshot, Class<? extends Handler> handlerType, int rebuildCount) {
+        synchronized (this.subscribers) {
+            // A newer rebuild has started, let that one be published instead
+            if (rebuildCount != this.rebuildCount) return this.rebuild;
+            // Remove subscribers that were unsubscribed during the rebuild
+            snapshot.stream().filter(subscriber -> !this.subscribers.contains(subscriber)).forEach(subscriber -> this.removeHandlers(subscriber, handlerMap));
+            // Add subscribers that were subscribed during the rebuild
+            this.subscribers.stream().filter(subscriber -> !snapshot.contains(subscriber)).forEach(subscriber -> this.addHandlers(subscriber, handlerMap, handlerType));
+            this.handlerType = handlerType;
+            this.handlerMap = handlerMap;
+            this.invalidate();
+            return null;
+        }
+    }
+
+    /**
+     * Finds listener methods in an object or class, creates handlers from them, and adds them to a handler map.
+     *
+     * @param subscriber  The object or class to search in.
+     * @param handlerMap  The handler map to add to.
+     * @param handlerType The type of {@link Handler} to create.
+     */
+    private void addHandlers(Object subscriber, Map<Class<?>, List<Handler>> handlerMap, Class<? extends Handler> handlerType) {
+        this.findHandlers(subscriber, handlerType, (eventType, handler) -> {
+            // Get list of handlers for this event type. If it doesn't exist, make a new list
+            List<Handler> handlers = handlerMap.computeIfAbsent(eventType, v -> new CopyOnWriteArrayList<>());
+            // Add the subscriber to an existing compact handler for the same listener, if there is one
+            if (handler instanceof CompactHandler) {
+                Method listener = ((CompactHandler) handler).getListener();
+                for (int i = 0; i < handlers.size(); i++) {
+                    Handler existing = handlers.get(i);
+                    if (existing instanceof CompactHandler && ((CompactHandler) existing).getListener().equals(listener)) {
+                        // Added in place, the list doesn't change
+                        ((CompactHandler) existing).add(subscriber);
+                        return;
+                    }
+                }
+            }
+            // Add handler to the list
+            handlers.add(handler);
+            // Sort the list
+            handlers.sort(Comparator.comparing(Handler::getPriority));
+        });
+    }
+
+    /**
+     * Removes every handler from a subscriber from a handler map.
+     *
+     * @param subscriber The object or class to remove handlers from.
+     * @param handlerMap The handler map to remove from.
+     */
+    private void removeHandlers(Object subscriber, Map<Class<?>, List<Handler>> handlerMap) {
+        handlerMap.values().forEach(handlers -> {
+            // Take the subscriber out of compact handlers, which have other subscribers too. That is done in place,
+            // so the list is only written if a handler has to be removed
+            boolean remove = false;
+            for (Handler handler : handlers) {
+                if (handler instanceof CompactHandler ? ((CompactHandler) handler).remove(subscriber) && ((CompactHandler) handler).isEmpty() : handler.isSubscriber(subscriber)) {
+                    remove = true;
+                }
+            }
+            // Remove handlers that are from this subscriber, and compact handlers with nothing left
+            if (remove) handlers.removeIf(handler -> handler instanceof CompactHandler ? ((CompactHandler) handler).isEmpty() : handler.isSubscriber(subscriber));
+        });
+        // Remove entry from handlermap if there are no handlers for an event type
+        handlerMap.entrySet().removeIf(entry -> entry.getValue().isEmpty());
+    }
+
+    /**
+     * Finds listener methods in an object or class, and creates handlers from them.
+     *
+     * @param subscriber  The object or class to search in.
+     * @param handlerType The type of {@link Handler} to create.
+     * @param consumer    Accepts the event type and handler for each listener.
+     */
+    private void findHandlers(Object subscriber, Class<? extends Handler> handlerType, BiConsumer<Class<?>, Handler> consumer) {
+        // Publishers bring their own handler
+        if (subscriber instanceof EventPublisher) {
+            EventPublisher<?> publisher = (EventPublisher<?>) subscriber;
+            consumer.accept(publisher.getEventType(), publisher.getHandler());
+            return;
+        }
         // Check if an object or class is being subscribed
         boolean isClass = subscriber instanceof Class;
         // Get all public methods from object or class (including inherited methods)
@@ -233,35 +803,72 @@ public class EventBus {
                         this.errorLogger.accept(method + " has incorrect parameters. Listeners must have one parameter that is a subclass of Event.");
                         return;
                     }
-                    // Get list of handlers for this event type. If it doesn't exist, make a new list
-                    List<Handler> handlers = this.handlerMap.computeIfAbsent(parameters[0], v -> new CopyOnWriteArrayList<>());
-                    // Add handler to the list
-                    handlers.add(this.createHandler(method, subscriber));
-                    // Sort the list
-                    handlers.sort(Comparator.comparing(Handler::getPriority));
+                    consumer.accept(parameters[0], this.wrapHandler(method, subscriber, this.createHandler(method, subscriber, handlerType)));
                 });
     }
 
     /**
-     * Creates a handler based on the current handler type. If an exception is caught, it defaults to {@link ReflectHandler}.
+     * Wraps a handler in a {@link QueuedHandler} if its listener has a {@link EventListener#thread}.
+     *
+     * @param method  The listener method.
+     * @param object  The subscribing object or class.
+     * @param handler The handler to wrap.
+     * @return The wrapped handler, or the same handler if it doesn't need to be wrapped.
+     */
+    private Handler wrapHandler(Method method, Object object, Handler handler) {
+        String thread = method.getAnnotation(EventListener.class).thread();
+        if (thread.isEmpty()) return handler;
+        // The queue is looked up when posting, so it can be added after subscribing
+        return new QueuedHandler(method, object, this.errorLogger, handler, thread, this::getDispatchQueue);
+    }
+
+    /**
+     * Creates a handler of the given type. If an exception is caught, it defaults to {@link ReflectHandler}.
      *
-     * @param method The listener method.
-     * @param object The subscribing object or class.
+     * @param method      The listener method.
+     * @param object      The subscribing object or class.
+     * @param handlerType The type of {@link Handler} to create.
      * @return A subclass of {@link Handler}.
      */
-    private Handler createHandler(Method method, Object object) {
+    private Handler createHandler(Method method, Object object, Class<? extends Handler> handlerType) {
         try {
-            // Create a new handler based on the current handler type
-            return this.handlerType
+            // Create a new handler based on the given handler type
+            return handlerType
                     .getDeclaredConstructor(Method.class, Object.class, Consumer.class)
                     .newInstance(method, object, this.errorLogger);
         } catch (Exception exception) {
             // Log exceptions that were thrown
-            Util.logReflectionExceptions(exception, Util.formatClassName(this.handlerType), this.errorLogger);
+            Util.logReflectionExceptions(exception, Util.formatClassName(handlerType), this.errorLogger);
             this.errorLogger.accept("Defaulting to ReflectHandler for listener method " + Util.formatMethodName(method) + ".");
             exception.printStackTrace();
             // Return most safe handler type
             return new ReflectHandler(method, object, this.errorLogger);
         }
     }
+
+    /**
+     * Everything {@link #post} needs for one event type, as of one {@link #version}.
+     */
+    private static final class Dispatch {
+
+        private static final Handler[] NO_HANDLERS = new Handler[0];
+
+        private final int version;
+
+        /**
+         * Handlers for this event type, sorted by priority.
+         */
+        private final Handler[] handlers;
+
+        /**
+         * Interceptor chain for this event type, or null if it has no interceptors.
+         */
+        private final EventDispatcher chain;
+
+        private Dispatch(int version, Handler[] handlers, EventDispatcher chain) {
+            this.version = version;
+            this.handlers = handlers;
+            this.chain = chain;
+        }
+    }
 }
@@ -0,0 +1,109 @@
+package me.bush.eventbus.codec;
+
+import me.bush.eventbus.event.Event;
+import me.bush.eventbus.util.Util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps event types to codecs and numeric ids. Both sides of a bridge or journal must
+ * register the same ids for the same event types, since only the id is written.
+ *
+ * @author bush
+ * @since 10/18/2026
+ */
+public class CodecRegistry {
+
+    /**
+     * Entries by event type, used when encoding.
+     */
+    private final Map<Class<?>, Entry<?>> byType = new ConcurrentHashMap<>();
+
+    /**
+     * Entries by id, used when decoding. Replaced (not modified) when it has to grow.
+     */
+    private volatile Entry<?>[] byId = new Entry<?>[16];
+
+    /**
+     * Registers a codec for an event type. Only events of exactly this type will be encoded, same as {@link me.bush.eventbus.bus.EventBus#post}.
+     *
+     * @param id    A non-negative id, unique to this registry.
+     * @param type  The event type.
+     * @param codec The codec to use for this event type.
+     * @return This registry, for chaining.
+     * @throws IllegalArgumentException If the id is negative, or the id or type is already registered.
+     */
+    public synchronized <T extends Event> CodecRegistry register(int id, Class<T> type, EventCodec<T> codec) {
+        if (id < 0) throw new IllegalArgumentException("Codec id must be non-negative, got " + id + ".");
+        if (this.byType.containsKey(type)) throw new IllegalArgumentException(Util.formatClassName(type) + " already has a codec.");
+        Entry<?>[] entries = this.byId;
+        if (id < entries.length && entries[id] != null) throw new IllegalArgumentException("Codec id " + id + " is already used by " + Util.formatClassName(entries[id].type) + ".");
+        // Grow the id array if needed (ids should be small and dense)
+        if (id >= entries.length) entries = Arrays.copyOf(entries, Math.max(id + 1, entries.length * 2));
+        else entries = entries.clone();
+        Entry<T> entry = new Entry<>(id, type, codec);
+        entries[id] = entry;
+        this.byType.put(type, entry);
+        // Publish
+        this.byId = entries;
+        return this;
+    }
+
+    /**
+     * @return The entry for this exact event type, or null if there isn't one.
+     */
+    public Entry<?> get(Class<?> type) {
+        return this.byType.get(type);
+    }
+
+    /**
+     * @return The entry with this id, or null if there isn't one.
+     */
+    public Entry<?> get(int id) {
+        Entry<?>[] entries = this.byId;
+        return id >= 0 && id < entries.length ? entries[id] : null;
+    }
+
+    /**
+     * An event type, the codec for it, and the id it is written as.
+     */
+    public static final class Entry<T extends Event> {
+
+        private final int id;
+
+        private final Class<T> type;
+
+        private final EventCodec<T> codec;
+
+        private Entry(int id, Class<T> type, EventCodec<T> codec) {
+            this.id = id;
+            this.type = type;
+            this.codec = codec;
+        }
+
+        public int getId() {
+            return this.id;
+        }
+
+        public Class<T> getType() {
+            return this.type;
+        }
+
+        /**
+         * Encodes an event, which must be of this entry's type.
+         */
+        public void encode(Event event, ByteBuffer buffer) {
+            this.codec.encode(this.type.cast(event), buffer);
+        }
+
+        /**
+         * Decodes an event of this entry's type.
+         */
+        public T decode(ByteBuffer buffer) {
+            return this.codec.decode(buffer);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package me.bush.eventbus.codec;
+
+import me.bush.eventbus.event.Event;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Converts one type of {@link Event} to and from bytes, so it can leave the JVM it was posted in.
+ *
+ * @author bush
+ * @since 10/18/2026
+ */
+public interface EventCodec<T extends Event> {
+
+    /**
+     * Writes an event to a buffer, starting at the buffer's position.
+     * Throwing {@link BufferOverflowException} tells the caller the event didn't fit.
+     *
+     * @param event  The event to write.
+     * @param buffer The buffer to write to. Do not keep a reference to it.
+     */
+    void encode(T event, ByteBuffer buffer);
+
+    /**
+     * Reads an event from a buffer, between the buffer's position and limit.
+     * The buffer may be a view of shared memory, so copy anything that needs to outlive this call.
+     *
+     * @param buffer The buffer to read from. Do not keep a reference to it.
+     * @return A new event, equal to the one that was encoded.
+     */
+    T decode(ByteBuffer buffer);
+}
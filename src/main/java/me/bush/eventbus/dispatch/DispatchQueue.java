@@ -0,0 +1,171 @@
+package me.bush.eventbus.dispatch;
+
+import me.bush.eventbus.annotation.EventListener;
+import me.bush.eventbus.bus.EventBus;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A queue of listener invocations that all run on one thread, for listeners with {@link EventListener#thread}.
+ * Posting from any thread only adds to a lock-free queue; the owning thread runs them in batches.
+ *
+ * @author bush
+ * @since 10/19/2026
+ * @see EventBus#addDispatchQueue
+ */
+public class DispatchQueue {
+
+    /**
+     * Batch size used by {@link #forThread(Thread)}.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    /**
+     * Invocations waiting to run.
+     */
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Runs {@link #drain} when there is work, or null if the owning thread calls it itself.
+     */
+    private final Executor executor;
+
+    /**
+     * The most invocations to run in one batch.
+     */
+    private final int batchSize;
+
+    /**
+     * Set while a drain is waiting to run on the executor, so only one is scheduled at a time.
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * The thread that runs this queue. For executor queues, this is the thread currently draining, or null.
+     */
+    private volatile Thread owner;
+
+    private DispatchQueue(Thread owner, Executor executor, int batchSize) {
+        this.owner = owner;
+        this.executor = executor;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Creates a queue that is drained by a specific thread, which must call {@link #drain} regularly (once per tick or frame, for example).
+     * Each drain runs at most 1024 invocations.
+     *
+     * @param owner The thread that runs this queue's listeners.
+     * @return A new dispatch queue.
+     * @see #forThread(Thread, int)
+     */
+    public static DispatchQueue forThread(Thread owner) {
+        return forThread(owner, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a queue that is drained by a specific thread, which must call {@link #drain} regularly (once per tick or frame, for example).
+     *
+     * @param owner     The thread that runs this queue's listeners.
+     * @param batchSize The most invocations to run per {@link #drain}, so a burst of events can't stall the owning thread.
+     *                  Anything left over runs on the next drain.
+     * @return A new dispatch queue.
+     */
+    public static DispatchQueue forThread(Thread owner, int batchSize) {
+        return new DispatchQueue(owner, null, batchSize);
+    }
+
+    /**
+     * Creates a queue that drains itself on an executor whenever something is queued. The executor must
+     * not run two drains at once (use a single threaded executor).
+     *
+     * @param executor  The executor to drain on.
+     * @param batchSize The most invocations to run per task, so one busy queue can't hog a shared executor.
+     * @return A new dispatch queue.
+     */
+    public static DispatchQueue forExecutor(Executor executor, int batchSize) {
+        return new DispatchQueue(null, executor, batchSize);
+    }
+
+    /**
+     * @return True if the current thread runs this queue, so a listener can be invoked directly.
+     */
+    public boolean isOwnerThread() {
+        return Thread.currentThread() == this.owner;
+    }
+
+    /**
+     * Queues an invocation to run on the owning thread.
+     *
+     * @param task The invocation.
+     * @throws RejectedExecutionException If the executor wouldn't take the drain. The invocation stays queued, and
+     *                                    runs once a later {@code enqueue} gets a drain scheduled.
+     */
+    public void enqueue(Runnable task) {
+        this.tasks.offer(task);
+        if (this.executor != null) this.schedule();
+    }
+
+    /**
+     * Runs queued invocations. Only the owning thread may call this; executor queues call it themselves.
+     *
+     * @return The number of invocations that were run.
+     * @throws IllegalStateException If called from a thread other than the owner.
+     */
+    public int drain() {
+        if (this.executor != null || !this.isOwnerThread()) {
+            throw new IllegalStateException("DispatchQueue can only be drained by its owner thread.");
+        }
+        return this.runBatch();
+    }
+
+    /**
+     * @return The number of invocations waiting to run. Not constant time.
+     */
+    public int size() {
+        return this.tasks.size();
+    }
+
+    /**
+     * Runs queued invocations until the queue is empty, or {@link #batchSize} have run.
+     */
+    private int runBatch() {
+        int count = 0;
+        Runnable task;
+        while (count < this.batchSize && (task = this.tasks.poll()) != null) {
+            task.run();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Schedules a drain on the executor, unless one is already scheduled.
+     *
+     * @throws RejectedExecutionException If the executor wouldn't take it. Nothing is scheduled then, so the next call tries again.
+     */
+    private void schedule() {
+        if (!this.scheduled.compareAndSet(false, true)) return;
+        try {
+            this.executor.execute(() -> {
+                this.owner = Thread.currentThread();
+                try {
+                    this.runBatch();
+                } finally {
+                    this.owner = null;
+                    this.scheduled.set(false);
+                    // Anything queued after the last poll, or left over from a full batch
+                    if (!this.tasks.isEmpty()) this.schedule();
+                }
+            });
+        } catch (RuntimeException exception) {
+            // Otherwise the queue would never drain again
+            this.scheduled.set(false);
+            throw exception;
+        }
+    }
+}
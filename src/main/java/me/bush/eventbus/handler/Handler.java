@@ -59,6 +59,21 @@ public abstract class Handler {
         this.logger = logger;
     }
 
+    /**
+     * For handlers that don't come from a listener method, like {@link me.bush.eventbus.stream.EventPublisher}'s.
+     *
+     * @param priority         The priority to sort this handler by.
+     * @param receiveCancelled If this handler should recieve cancelled events.
+     * @param subscriber       The object that owns this handler, used when unsubscribing.
+     * @param logger           The logger to use for error messages.
+     */
+    protected Handler(ListenerPriority priority, boolean receiveCancelled, Object subscriber, Consumer<String> logger) {
+        this.priority = priority;
+        this.receiveCancelled = receiveCancelled;
+        this.subscriber = subscriber;
+        this.logger = logger;
+    }
+
     /**
      * Called in {@link EventBus#post}.
      *
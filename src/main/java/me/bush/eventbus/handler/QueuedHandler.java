@@ -0,0 +1,115 @@
+package me.bush.eventbus.handler;
+
+import me.bush.eventbus.annotation.EventListener;
+import me.bush.eventbus.dispatch.DispatchQueue;
+import me.bush.eventbus.event.Event;
+import me.bush.eventbus.util.Util;
+
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Wraps the handler of a listener with {@link EventListener#thread}. Created by the EventBus, not a selectable handler type.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+public class QueuedHandler extends Handler {
+
+    /**
+     * The handler that actually invokes the listener.
+     */
+    private final Handler handler;
+
+    /**
+     * The name of the queue the listener runs on.
+     */
+    private final String thread;
+
+    /**
+     * Finds a queue by name, so a queue added after subscribing is still found.
+     */
+    private final Function<String, DispatchQueue> queues;
+
+    /**
+     * The queue of the thread the listener runs on, or null until it has been found.
+     */
+    private volatile DispatchQueue queue;
+
+    /**
+     * Set once a missing queue has been logged, so it isn't logged for every event.
+     */
+    private volatile boolean warned;
+
+    /**
+     * The listener method, for error messages.
+     */
+    private final Method listener;
+
+    /**
+     * Invokes the wrapped handler directly when posted from the queue's thread, and queues it otherwise.
+     * The queue is looked up the first time an event is posted, and until it exists the listener runs on the posting thread.
+     *
+     * @param listener   A method with an {@link EventListener} annotation.
+     * @param subscriber The object or class that the listener belongs to.
+     * @param logger     The consumer to use for error messages.
+     * @param handler    The handler to wrap.
+     * @param thread     The name of the queue the listener runs on.
+     * @param queues     Finds a queue by name, or returns null if there isn't one yet.
+     */
+    public QueuedHandler(Method listener, Object subscriber, Consumer<String> logger, Handler handler, String thread, Function<String, DispatchQueue> queues) {
+        super(listener, subscriber, logger);
+        this.handler = handler;
+        this.thread = thread;
+        this.queues = queues;
+        this.listener = listener;
+    }
+
+    @Override
+    public void invoke(Event event) {
+        DispatchQueue queue = this.getQueue();
+        // No queue yet, run here rather than dropping the event
+        if (queue == null) {
+            this.handler.invoke(event);
+            return;
+        }
+        // Already on the right thread
+        if (queue.isOwnerThread()) {
+            this.handler.invoke(event);
+            return;
+        }
+        try {
+            queue.enqueue(() -> {
+                try {
+                    this.handler.invoke(event);
+                } catch (RuntimeException exception) {
+                    // Don't let one listener stop the rest of the batch
+                    this.logger.accept(Util.formatMethodName(this.listener) + " threw an exception.");
+                    exception.printStackTrace();
+                }
+            });
+        } catch (RuntimeException exception) {
+            // The executor rejected the drain, the event stays queued until a later post gets one scheduled
+            this.logger.accept("Dispatch queue \"" + this.thread + "\" could not schedule a drain for listener method " + Util.formatMethodName(this.listener) + ".");
+            exception.printStackTrace();
+        }
+    }
+
+    /**
+     * @return The queue the listener runs on, or null if it hasn't been added yet.
+     */
+    private DispatchQueue getQueue() {
+        DispatchQueue queue = this.queue;
+        if (queue != null) return queue;
+        queue = this.queues.apply(this.thread);
+        if (queue != null) {
+            // Queues are never removed, so it only has to be found once
+            this.queue = queue;
+        } else if (!this.warned) {
+            this.warned = true;
+            this.logger.accept("No dispatch queue named \"" + this.thread + "\" for listener method " + Util.formatMethodName(this.listener) + ", it will run on the posting thread until one is added.");
+        }
+        return queue;
+    }
+}
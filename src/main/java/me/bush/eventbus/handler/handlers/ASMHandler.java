@@ -12,6 +12,7 @@ import org.objectweb.asm.Type;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 /**
@@ -36,14 +37,14 @@ public class ASMHandler extends Handler {
     private static final String methodname = Type.getMethodDescriptor(DynamicHandler.class.getDeclaredMethods()[0]);
 
     /**
-     * Count of all listeners minus 1.
+     * Count of all listeners minus 1. Atomic since handlers can be created on several threads at once.
      */
-    private static int listeners;
+    private static final AtomicInteger listeners = new AtomicInteger();
 
     /**
-     * Caches virtual listeners to avoid costly recreation.
+     * Caches generated classes to avoid costly recreation. Each subscriber gets its own instance.
      */
-    private static final ConcurrentHashMap<Method, DynamicHandler> listenercache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Method, Class<?>> wrappercache = new ConcurrentHashMap<>();
 
     /**
      * The class created by asm that contains this listener's method.
@@ -62,19 +63,20 @@ public class ASMHandler extends Handler {
      */
     public ASMHandler(Method listener, Object subscriber, Consumer<String> logger) throws Exception {
         super(listener, subscriber, logger);
-        // Check cache before creating a new listener
-        if (listenercache.containsKey(listener)) this.dynamicHandler = listenercache.get(listener);
-        else {
-            // Create static
-            if (Modifier.isStatic(listener.getModifiers())) {
-                this.dynamicHandler = (DynamicHandler) this.createWrapper(listener).newInstance();
-            }
-            // Create with object
-            else
-                this.dynamicHandler = (DynamicHandler) this.createWrapper(listener).getConstructor(Object.class).newInstance(subscriber);
-            // Put new dynamic handler in cache
-            listenercache.put(listener, this.dynamicHandler);
+        // Check cache before creating a new class
+        Class<?> wrapper = wrappercache.get(listener);
+        if (wrapper == null) {
+            wrapper = this.createWrapper(listener);
+            // Put new class in cache
+            wrappercache.put(listener, wrapper);
         }
+        // Create static
+        if (Modifier.isStatic(listener.getModifiers())) {
+            this.dynamicHandler = (DynamicHandler) wrapper.newInstance();
+        }
+        // Create with object
+        else
+            this.dynamicHandler = (DynamicHandler) wrapper.getConstructor(Object.class).newInstance(subscriber);
     }
 
     @Override
@@ -134,7 +136,7 @@ public class ASMHandler extends Handler {
         return String.format(
                 "%s_%d_%s",
                 "ASMListener",
-                listeners++,
+                listeners.getAndIncrement(),
                 Util.formatMethodName(method)
         );
     }
@@ -0,0 +1,332 @@
+package me.bush.eventbus.handler.handlers;
+
+import me.bush.eventbus.annotation.EventListener;
+import me.bush.eventbus.event.Event;
+import me.bush.eventbus.handler.DynamicHandler;
+import me.bush.eventbus.handler.Handler;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * @author bush
+ * @since 10/19/2026
+ */
+public class CompactHandler extends Handler {
+
+    /**
+     * Caches invokers by listener method. Unlike {@link DynamicHandler}s, invokers don't hold a subscriber, so one per method is enough.
+     */
+    private static final ConcurrentHashMap<Method, Invoker> invokerCache = new ConcurrentHashMap<>();
+
+    /**
+     * Receivers are stored in chunks of this many, so adding or removing one copies at most a chunk or two, not all of them.
+     */
+    private static final int CHUNK_SIZE = 1024;
+
+    /**
+     * Size of the first chunk, which grows up to {@link #CHUNK_SIZE}, so small groups stay small.
+     */
+    private static final int INITIAL_SIZE = 4;
+
+    /**
+     * The listener method every receiver shares.
+     */
+    private final Method listener;
+
+    /**
+     * Invokes the listener on a receiver.
+     */
+    private final Invoker invoker;
+
+    /**
+     * Where each receiver is in {@link #receivers}, as an open addressing table of slot + 1, or 0 for an empty entry.
+     * Receivers are looked up in {@link #receivers}, so this costs a few bytes per receiver instead of a map entry.
+     * Only used while holding this handler's lock.
+     */
+    private int[] index = new int[INITIAL_SIZE * 2];
+
+    /**
+     * Every subscriber this handler invokes the listener on. Replaced on every change, and slots a
+     * post in progress can still see are never written, so it sees the old receivers or the new ones.
+     */
+    private volatile Receivers receivers = new Receivers(new Object[1][], 0);
+
+    /**
+     * Smallest handler type when many objects of the same class are subscribed. The EventBus combines every
+     * CompactHandler for the same listener method into one, which stores just a reference per subscriber, instead of
+     * a handler and a lambda object per subscriber. The priority and cancel settings come from the method's annotation,
+     * so they are stored once for the whole group, and all receivers share one invoker created with {@link LambdaMetafactory}.
+     *
+     * @param listener   A method with an {@link EventListener} annotation.
+     * @param subscriber The object or class that the listener belongs to.
+     * @param logger     The consumer to use for error messages.
+     * @throws Throwable If there was an error creating the invoker.
+     * @see Handler
+     */
+    public CompactHandler(Method listener, Object subscriber, Consumer<String> logger) throws Throwable {
+        super(listener, subscriber, logger);
+        this.listener = listener;
+        Invoker invoker = invokerCache.get(listener);
+        if (invoker == null) {
+            invoker = createInvoker(listener);
+            invokerCache.put(listener, invoker);
+        }
+        this.invoker = invoker;
+        this.add(subscriber);
+    }
+
+    /**
+     * Creates an empty handler for the same listener as another one.
+     */
+    private CompactHandler(CompactHandler handler) {
+        super(handler.getPriority(), handler.shouldRecieveCancelled(), handler.subscriber, handler.logger);
+        this.listener = handler.listener;
+        this.invoker = handler.invoker;
+    }
+
+    @Override
+    public void invoke(Event event) {
+        boolean receiveCancelled = this.shouldRecieveCancelled();
+        Receivers receivers = this.receivers;
+        for (int index = 0, remaining = receivers.size; remaining > 0; index++) {
+            Object[] chunk = receivers.chunks[index];
+            int count = Math.min(chunk.length, remaining);
+            for (int i = 0; i < count; i++) {
+                // A previous receiver may have cancelled the event
+                if (event.isCancelled() && !receiveCancelled) return;
+                this.invoker.invoke(chunk[i], event);
+            }
+            remaining -= count;
+        }
+    }
+
+    @Override
+    public synchronized boolean isSubscriber(Object object) {
+        return this.index[this.find(object)] != 0;
+    }
+
+    /**
+     * @return The listener method every receiver shares.
+     */
+    public Method getListener() {
+        return this.listener;
+    }
+
+    /**
+     * @return How many subscribers this handler invokes the listener on.
+     */
+    public int getReceiverCount() {
+        return this.receivers.size;
+    }
+
+    /**
+     * @return True if this handler has no receivers left, and can be removed.
+     */
+    public boolean isEmpty() {
+        return this.receivers.size == 0;
+    }
+
+    /**
+     * Combines handlers for the same listener method into one.
+     *
+     * @param handlers Handlers for the same listener method, in the order their receivers should be invoked.
+     * @return A new handler with every receiver, or the only handler if there is one.
+     */
+    public static CompactHandler combine(List<CompactHandler> handlers) {
+        if (handlers.size() == 1) return handlers.get(0);
+        CompactHandler combined = new CompactHandler(handlers.get(0));
+        for (CompactHandler handler : handlers) {
+            Receivers receivers = handler.receivers;
+            for (int index = 0, remaining = receivers.size; remaining > 0; index++) {
+                Object[] chunk = receivers.chunks[index];
+                int count = Math.min(chunk.length, remaining);
+                for (int i = 0; i < count; i++) combined.add(chunk[i]);
+                remaining -= count;
+            }
+        }
+        return combined;
+    }
+
+    /**
+     * Adds a receiver after the others. Only writes past the end of the current receivers, so it doesn't copy them.
+     *
+     * @param receiver The subscriber to invoke the listener on.
+     * @return False if it was already a receiver.
+     */
+    public synchronized boolean add(Object receiver) {
+        int position = this.find(receiver);
+        if (this.index[position] != 0) return false;
+        Receivers receivers = this.receivers;
+        int size = receivers.size;
+        Object[][] chunks = receivers.chunks;
+        int index = size / CHUNK_SIZE;
+        int slot = size % CHUNK_SIZE;
+        if (index == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        Object[] chunk = chunks[index];
+        if (chunk == null || slot == chunk.length) {
+            // Grow the chunk. Posts in progress may still be reading the old one, so the chunks are copied too
+            chunk = chunk == null ? new Object[index == 0 ? INITIAL_SIZE : CHUNK_SIZE] : Arrays.copyOf(chunk, Math.min(chunk.length * 2, CHUNK_SIZE));
+            if (chunks == receivers.chunks) chunks = chunks.clone();
+            chunks[index] = chunk;
+        }
+        chunk[slot] = receiver;
+        this.receivers = new Receivers(chunks, size + 1);
+        this.index[position] = size + 1;
+        // Keep the index at most half full, so probes stay short
+        if ((size + 1) * 2 > this.index.length) this.rehash(this.index.length * 2);
+        return true;
+    }
+
+    /**
+     * Removes a receiver by moving the last receiver into its slot, so the order of the others can change.
+     * Only the chunks that change are copied.
+     *
+     * @param receiver The subscriber to remove.
+     * @return False if it wasn't a receiver.
+     */
+    public synchronized boolean remove(Object receiver) {
+        int position = this.find(receiver);
+        if (this.index[position] == 0) return false;
+        int slot = this.index[position] - 1;
+        this.unindex(position);
+        Receivers receivers = this.receivers;
+        int last = receivers.size - 1;
+        Object[][] chunks = receivers.chunks.clone();
+        // Copy the last chunk, so the slot it leaves is cleared without a post in progress seeing it
+        Object[] lastChunk = chunks[last / CHUNK_SIZE] = chunks[last / CHUNK_SIZE].clone();
+        Object moved = lastChunk[last % CHUNK_SIZE];
+        lastChunk[last % CHUNK_SIZE] = null;
+        if (slot != last) {
+            Object[] chunk = chunks[slot / CHUNK_SIZE];
+            if (chunk != lastChunk) chunk = chunks[slot / CHUNK_SIZE] = chunk.clone();
+            chunk[slot % CHUNK_SIZE] = moved;
+            // Still finds it at the last slot, since the new receivers aren't published yet
+            this.index[this.find(moved)] = slot + 1;
+        }
+        // Drop the last chunk if it is empty now
+        if (last % CHUNK_SIZE == 0 && last > 0) chunks[last / CHUNK_SIZE] = null;
+        this.receivers = new Receivers(chunks, last);
+        return true;
+    }
+
+    /**
+     * @return The position of a receiver in {@link #index}, or of the empty entry where it would go.
+     */
+    private int find(Object receiver) {
+        Receivers receivers = this.receivers;
+        int mask = this.index.length - 1;
+        int position = hash(receiver) & mask;
+        while (this.index[position] != 0 && !receiverAt(receivers, this.index[position] - 1).equals(receiver)) {
+            position = (position + 1) & mask;
+        }
+        return position;
+    }
+
+    /**
+     * Clears an entry in {@link #index}, and moves later entries back into the gap, so lookups for them don't stop early.
+     */
+    private void unindex(int gap) {
+        Receivers receivers = this.receivers;
+        int mask = this.index.length - 1;
+        for (int position = (gap + 1) & mask; this.index[position] != 0; position = (position + 1) & mask) {
+            int home = hash(receiverAt(receivers, this.index[position] - 1)) & mask;
+            if (((position - home) & mask) >= ((position - gap) & mask)) {
+                this.index[gap] = this.index[position];
+                gap = position;
+            }
+        }
+        this.index[gap] = 0;
+    }
+
+    /**
+     * Rebuilds {@link #index} with a different capacity, which must be a power of two.
+     */
+    private void rehash(int capacity) {
+        Receivers receivers = this.receivers;
+        int[] index = new int[capacity];
+        int mask = capacity - 1;
+        for (int entry : this.index) {
+            if (entry == 0) continue;
+            int position = hash(receiverAt(receivers, entry - 1)) & mask;
+            while (index[position] != 0) position = (position + 1) & mask;
+            index[position] = entry;
+        }
+        this.index = index;
+    }
+
+    private static Object receiverAt(Receivers receivers, int slot) {
+        return receivers.chunks[slot / CHUNK_SIZE][slot % CHUNK_SIZE];
+    }
+
+    /**
+     * Spreads the hash code, since linear probing does badly with hash codes that are close together.
+     */
+    private static int hash(Object receiver) {
+        int hash = receiver.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Creates an invoker that takes the receiver as a parameter, so it can be shared.
+     */
+    private static Invoker createInvoker(Method listener) throws Throwable {
+        // Static listeners don't have a receiver, so LambdaMetafactory can't ignore it for us
+        if (Modifier.isStatic(listener.getModifiers())) {
+            DynamicHandler dynamicHandler = LambdaHandler.createDynamicHandler(listener, null);
+            return (receiver, event) -> dynamicHandler.invoke(event);
+        }
+        // Get lookup instance
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        // Generate callsite, with the receiver as the first parameter (like String::length as a Function<String, Integer>)
+        CallSite callSite = LambdaMetafactory.metafactory(
+                lookup, // The lookup instance to use
+                "invoke", // The name of the method to implement
+                MethodType.methodType(Invoker.class), // Nothing is captured
+                MethodType.methodType(void.class, Object.class, Event.class), // The method signature to implement
+                lookup.unreflect(listener), // Method to invoke when called
+                MethodType.methodType(void.class, listener.getDeclaringClass(), listener.getParameterTypes()[0]) // Signature that is enforced at runtime
+        );
+        return (Invoker) callSite.getTarget().invoke();
+    }
+
+    /**
+     * The receivers a post iterates over. Chunks past the last one in use may be null.
+     */
+    private static final class Receivers {
+
+        /**
+         * Every chunk is full except the last one in use.
+         */
+        private final Object[][] chunks;
+
+        /**
+         * How many receivers there are. Slots after this are not read.
+         */
+        private final int size;
+
+        private Receivers(Object[][] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Implemented by the lambda objects created in {@link #createInvoker}.
+     */
+    public interface Invoker {
+
+        /**
+         * @param receiver The subscriber to invoke the listener on.
+         * @param event    The event to pass to the listener method.
+         */
+        void invoke(Object receiver, Event event);
+    }
+}
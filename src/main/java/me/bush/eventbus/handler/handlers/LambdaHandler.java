@@ -18,9 +18,9 @@ import java.util.function.Consumer;
 public class LambdaHandler extends Handler {
 
     /**
-     * Caches dynamic handlers to avoid recreation.
+     * Caches lambda factories to avoid recreation. Factories take the subscriber, so every subscriber gets its own lambda object.
      */
-    private static final ConcurrentHashMap<Method, DynamicHandler> handlerCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Method, MethodHandle> factoryCache = new ConcurrentHashMap<>();
 
     /**
      * The dynamically generated lambda object that invokes this handler's listener.
@@ -38,31 +38,63 @@ public class LambdaHandler extends Handler {
      */
     public LambdaHandler(Method listener, Object subscriber, Consumer<String> logger) throws Throwable {
         super(listener, subscriber, logger);
-        // Make sure cache doesn't already have a handler for this listener
-        if (handlerCache.containsKey(listener)) this.dynamicHandler = handlerCache.get(listener);
-        else {
-            // Get lookup instance
-            MethodHandles.Lookup lookup = MethodHandles.lookup();
-            // Check method modifiers for static
-            boolean isStatic = Modifier.isStatic(listener.getModifiers());
-            // Create methodtype for invoking the methodhandle
-            MethodType targetSignature = MethodType.methodType(DynamicHandler.class);
-            // Generate callsite
-            CallSite callSite = LambdaMetafactory.metafactory(
-                    lookup, // The lookup instance to use
-                    "invoke", // The name of the method to implement
-                    isStatic ? targetSignature : targetSignature.appendParameterTypes(subscriber.getClass()), // The signature for .invoke()
-                    MethodType.methodType(void.class, Event.class), // The method signature to implement
-                    lookup.unreflect(listener), // Method to invoke when called
-                    MethodType.methodType(void.class, listener.getParameterTypes()[0]) // Signature that is enforced at runtime
-            );
-            // Get target to invoke
-            MethodHandle target = callSite.getTarget();
-            // Invoke on the object if not static
-            this.dynamicHandler = (DynamicHandler) (isStatic ? target.invoke() : target.invoke(subscriber));
-            // Cache this dynamic handler
-            handlerCache.put(listener, this.dynamicHandler);
+        this.dynamicHandler = createDynamicHandler(listener, subscriber);
+    }
+
+    /**
+     * Creates a lambda object that invokes a listener. The class behind it is generated with {@link LambdaMetafactory}
+     * once per listener method and cached, so only the first call for a method is expensive. Also used by
+     * {@link LazyHandler} and {@link CompactHandler}, so they share the cache.
+     *
+     * @param listener   A method with an {@link EventListener} annotation.
+     * @param subscriber The object or class that the listener belongs to.
+     * @return A new lambda object that invokes the listener on the subscriber.
+     * @throws Throwable If there was an error creating the lambda object.
+     */
+    public static DynamicHandler createDynamicHandler(Method listener, Object subscriber) throws Throwable {
+        // Make sure cache doesn't already have a factory for this listener
+        MethodHandle factory = factoryCache.get(listener);
+        if (factory == null) {
+            factory = createFactory(listener);
+            // Cache this factory
+            factoryCache.put(listener, factory);
         }
+        return createDynamicHandler(factory, listener, subscriber);
+    }
+
+    /**
+     * Creates a lambda object from a factory made by {@link #createFactory}.
+     */
+    private static DynamicHandler createDynamicHandler(MethodHandle factory, Method listener, Object subscriber) throws Throwable {
+        // Invoke on the object if not static
+        return (DynamicHandler) (Modifier.isStatic(listener.getModifiers()) ? factory.invoke() : factory.invoke(subscriber));
+    }
+
+    /**
+     * Uses {@link LambdaMetafactory} to create a factory for lambda objects that invoke a listener.
+     *
+     * @param listener A method with an {@link EventListener} annotation.
+     * @return A method handle that takes the subscriber (or nothing if the listener is static), and returns a lambda object.
+     * @throws Throwable If there was an error creating the factory.
+     */
+    private static MethodHandle createFactory(Method listener) throws Throwable {
+        // Get lookup instance
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        // Check method modifiers for static
+        boolean isStatic = Modifier.isStatic(listener.getModifiers());
+        // Create methodtype for invoking the methodhandle
+        MethodType targetSignature = MethodType.methodType(DynamicHandler.class);
+        // Generate callsite
+        CallSite callSite = LambdaMetafactory.metafactory(
+                lookup, // The lookup instance to use
+                "invoke", // The name of the method to implement
+                isStatic ? targetSignature : targetSignature.appendParameterTypes(listener.getDeclaringClass()), // The signature for .invoke()
+                MethodType.methodType(void.class, Event.class), // The method signature to implement
+                lookup.unreflect(listener), // Method to invoke when called
+                MethodType.methodType(void.class, listener.getParameterTypes()[0]) // Signature that is enforced at runtime
+        );
+        // Get target to invoke
+        return callSite.getTarget();
     }
 
     @Override
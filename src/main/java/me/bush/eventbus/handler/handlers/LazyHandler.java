@@ -0,0 +1,114 @@
+package me.bush.eventbus.handler.handlers;
+
+import me.bush.eventbus.annotation.EventListener;
+import me.bush.eventbus.event.Event;
+import me.bush.eventbus.handler.DynamicHandler;
+import me.bush.eventbus.handler.Handler;
+import me.bush.eventbus.util.Util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+
+/**
+ * @author bush
+ * @since 10/18/2026
+ */
+public class LazyHandler extends Handler {
+
+    /**
+     * How many times a listener is invoked with reflection before its lambda object is created.
+     * 0 creates it on the first invocation. Set with the system property {@code eventbus.lazy.threshold}.
+     */
+    private static final int threshold = Math.max(0, Integer.getInteger("eventbus.lazy.threshold", 0));
+
+    /**
+     * The listener method, used until the lambda object is created.
+     */
+    private final Method listener;
+
+    /**
+     * The lambda object that invokes this handler's listener, or null if it hasn't been created yet.
+     */
+    private volatile DynamicHandler dynamicHandler;
+
+    /**
+     * How many times this handler has been invoked with reflection. Not exact across threads, it doesn't need to be.
+     */
+    private int invocations;
+
+    /**
+     * Set if creating the lambda object failed, so we don't keep trying.
+     */
+    private boolean failed;
+
+    /**
+     * Cheapest to create, and as fast as {@link LambdaHandler} once it has been invoked. Starts out using reflection
+     * like {@link ReflectHandler}, then creates a lambda object after {@link #threshold} invocations. Listeners that
+     * are never invoked never pay for {@link LambdaHandler#createDynamicHandler}, and the generated class is shared
+     * by every subscriber of the same listener method. Exceptions thrown by the listener propagate out of
+     * {@link #invoke} before and after the lambda object is created, like with {@link LambdaHandler}.
+     *
+     * @param listener   A method with an {@link EventListener} annotation.
+     * @param subscriber The object or class that the listener belongs to.
+     * @param logger     The consumer to use for error messages.
+     * @see Handler
+     */
+    public LazyHandler(Method listener, Object subscriber, Consumer<String> logger) {
+        super(listener, subscriber, logger);
+        this.listener = listener;
+    }
+
+    @Override
+    public void invoke(Event event) {
+        DynamicHandler dynamicHandler = this.dynamicHandler;
+        // Promote once the threshold is reached
+        if (dynamicHandler == null && !this.failed && this.invocations++ >= threshold) {
+            dynamicHandler = this.promote();
+        }
+        if (dynamicHandler != null) {
+            // Invoke lambda through dynamic handler interface
+            dynamicHandler.invoke(event);
+            return;
+        }
+        try {
+            // Invoke method
+            this.listener.invoke(this.subscriber, event);
+        } catch (InvocationTargetException exception) {
+            // Throw what the listener threw, like the lambda object does once promoted
+            throw LazyHandler.<RuntimeException>rethrow(exception.getCause());
+        } catch (Exception exception) {
+            // Log errors
+            Util.logReflectionExceptions(exception, Util.formatMethodName(this.listener), this.logger);
+            exception.printStackTrace();
+        }
+    }
+
+    /**
+     * Throws any throwable as it is, checked or not, so the reflection tier throws the same as the lambda object.
+     *
+     * @return Never returns, the return type lets callers write {@code throw rethrow(...)}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T rethrow(Throwable throwable) throws T {
+        throw (T) throwable;
+    }
+
+    /**
+     * Creates the lambda object, if another thread didn't already.
+     *
+     * @return The lambda object, or null if it couldn't be created.
+     */
+    private synchronized DynamicHandler promote() {
+        if (this.dynamicHandler != null || this.failed) return this.dynamicHandler;
+        try {
+            this.dynamicHandler = LambdaHandler.createDynamicHandler(this.listener, this.subscriber);
+        } catch (Throwable throwable) {
+            // Stay on reflection
+            this.failed = true;
+            this.logger.accept("Could not create lambda for " + Util.formatMethodName(this.listener) + ", using reflection.");
+            throwable.printStackTrace();
+        }
+        return this.dynamicHandler;
+    }
+}
@@ -0,0 +1,212 @@
+package me.bush.eventbus.handler.handlers;
+
+import me.bush.eventbus.annotation.EventListener;
+import me.bush.eventbus.event.Event;
+import me.bush.eventbus.handler.DynamicHandler;
+import me.bush.eventbus.handler.Handler;
+import me.bush.eventbus.util.Util;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * @author bush
+ * @since 10/19/2026
+ */
+public class MethodHandleHandler extends Handler {
+
+    /**
+     * Bytecode name of the interface class to implement.
+     */
+    private static final String handlername = Type.getInternalName(DynamicHandler.class);
+
+    /**
+     * Bytecode descriptor of the interface method to override, which is also the type the handle is adapted to.
+     */
+    private static final String methodname = Type.getMethodDescriptor(DynamicHandler.class.getDeclaredMethods()[0]);
+
+    /**
+     * Bytecode name of this class, which generated classes get their handle from.
+     */
+    private static final String ownername = Type.getInternalName(MethodHandleHandler.class);
+
+    /**
+     * Count of all generated classes. Atomic since handlers can be created on several threads at once.
+     */
+    private static final AtomicInteger listeners = new AtomicInteger();
+
+    /**
+     * An instance of the generated class that holds this handler's method handle.
+     */
+    private final DynamicHandler dynamicHandler;
+
+    /**
+     * Fastest invocation style for tiny listeners. Generates a class with the listener (bound to the subscriber) in a
+     * {@code static final} {@link MethodHandle} field, which the JIT treats as a constant, and calls it with
+     * {@link MethodHandle#invokeExact}. The listener can then be inlined into {@link #invoke} like a direct call.
+     * <p>
+     * Every subscriber gets its own class, so this is slower to subscribe than the other handlers, and isn't
+     * suited to subscribing huge numbers of objects. Each class has its own classloader so it can be unloaded
+     * once the handler is gone.
+     * <p>
+     * The call into the generated classes in {@link #invoke} is one call site, shared by every MethodHandleHandler in
+     * the JVM, whatever bus or listener method it is for. Once it has seen more than two generated classes it becomes
+     * megamorphic and can't be inlined, and from then on this is no faster than {@link LambdaHandler}, which has the same
+     * problem with its lambda classes. So this only pays off when at most two listeners in the whole program use it.
+     * See {@code PostBenchmark}.
+     *
+     * @param listener   A method with an {@link EventListener} annotation.
+     * @param subscriber The object or class that the listener belongs to.
+     * @param logger     The consumer to use for error messages.
+     * @throws Throwable If there was an error creating the method handle or the class that holds it.
+     * @see Handler
+     */
+    public MethodHandleHandler(Method listener, Object subscriber, Consumer<String> logger) throws Throwable {
+        super(listener, subscriber, logger);
+        // Get a handle to the listener
+        MethodHandle handle = MethodHandles.lookup().unreflect(listener);
+        // Bind it to the subscriber if not static
+        if (!Modifier.isStatic(listener.getModifiers())) handle = handle.bindTo(subscriber);
+        // Takes an Event instead of the listener's event type, so it matches the invokeExact call exactly
+        handle = handle.asType(MethodType.methodType(void.class, Event.class));
+        String name = this.getUniqueName(listener);
+        // Initializing the class takes the handle from its loader
+        Class<?> holder = Class.forName(name, true, new HolderLoader(name, this.createHolder(name), handle));
+        this.dynamicHandler = (DynamicHandler) holder.getDeclaredConstructor().newInstance();
+    }
+
+    @Override
+    public void invoke(Event event) {
+        // Invoke through the class that holds the method handle
+        this.dynamicHandler.invoke(event);
+    }
+
+    /**
+     * Called by the static initializer of generated classes. Public because the generated classes are in another
+     * package, but it only gives a handle to the class it was generated for, and only once.
+     *
+     * @param holder The class being initialized.
+     * @return The method handle for that class to hold.
+     * @throws IllegalStateException If the class wasn't generated by this handler, or its handle was already taken.
+     */
+    public static MethodHandle takeHandle(Class<?> holder) {
+        ClassLoader loader = holder.getClassLoader();
+        MethodHandle handle = loader instanceof HolderLoader ? ((HolderLoader) loader).takeHandle(holder) : null;
+        if (handle == null) throw new IllegalStateException(holder.getName() + " can't take a method handle.");
+        return handle;
+    }
+
+    /**
+     * Generates a class like this:
+     * <pre>
+     * public class MethodHandleListener_1_SomeClass#someMethod implements DynamicHandler {
+     *     private static final MethodHandle handle = MethodHandleHandler.takeHandle(MethodHandleListener_1_SomeClass#someMethod.class);
+     *
+     *     public void invoke(Event event) {
+     *         handle.invokeExact(event);
+     *     }
+     * }
+     * </pre>
+     */
+    private byte[] createHolder(String name) {
+        ClassWriter cw = new ClassWriter(0);
+        String desc = name.replace('.', '/');
+        String handleType = Type.getDescriptor(MethodHandle.class);
+        cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, desc, null, "java/lang/Object", new String[]{handlername});
+        cw.visitSource(".dynamic", null);
+        cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, "handle", handleType, null, null).visitEnd();
+        // Static initializer, takes the handle
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+        mv.visitCode();
+        mv.visitLdcInsn(Type.getObjectType(desc));
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, ownername, "takeHandle", "(Ljava/lang/Class;)" + handleType, false);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, desc, "handle", handleType);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(1, 0);
+        mv.visitEnd();
+        // Constructor
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(1, 1);
+        mv.visitEnd();
+        // Invoke, calls the handle with the exact type it was adapted to
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "invoke", methodname, null, null);
+        mv.visitCode();
+        mv.visitFieldInsn(Opcodes.GETSTATIC, desc, "handle", handleType);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/invoke/MethodHandle", "invokeExact", methodname, false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(2, 2);
+        mv.visitEnd();
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * Would look like "MethodHandleListener_1_SomeClass#someMethod".
+     */
+    private String getUniqueName(Method method) {
+        return String.format(
+                "%s_%d_%s",
+                "MethodHandleListener",
+                listeners.getAndIncrement(),
+                Util.formatMethodName(method)
+        );
+    }
+
+    /**
+     * Defines one generated class, and holds its method handle until the class takes it. Generated classes don't refer
+     * to the listener's class (only the handle does), so this library's classloader is always a suitable parent.
+     */
+    private static class HolderLoader extends ClassLoader {
+
+        private final String name;
+
+        /**
+         * Bytecode of the class, cleared once it is defined.
+         */
+        private byte[] data;
+
+        /**
+         * The handle for the class to hold, cleared once it is taken.
+         */
+        private MethodHandle handle;
+
+        private HolderLoader(String name, byte[] data, MethodHandle handle) {
+            super(HolderLoader.class.getClassLoader());
+            this.name = name;
+            this.data = data;
+            this.handle = handle;
+        }
+
+        /**
+         * @return The handle if this loader defined the class and it hasn't been taken yet, otherwise null.
+         */
+        private synchronized MethodHandle takeHandle(Class<?> holder) {
+            if (holder.getClassLoader() != this || !holder.getName().equals(this.name)) return null;
+            MethodHandle handle = this.handle;
+            this.handle = null;
+            return handle;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            if (!name.equals(this.name) || this.data == null) throw new ClassNotFoundException(name);
+            Class<?> holder = this.defineClass(name, this.data, 0, this.data.length);
+            this.data = null;
+            return holder;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package me.bush.eventbus.interceptor;
+
+import me.bush.eventbus.bus.EventBus;
+import me.bush.eventbus.event.Event;
+
+/**
+ * The next step of an interceptor chain. Calling it runs the remaining interceptors, then the listeners.
+ *
+ * @author bush
+ * @since 10/18/2026
+ */
+@FunctionalInterface
+public interface EventDispatcher {
+
+    /**
+     * @param event The event to pass on. Listeners are found by this event's type.
+     * @return True if the event was cancelled, same as {@link EventBus#post}.
+     */
+    boolean dispatch(Event event);
+}
@@ -0,0 +1,23 @@
+package me.bush.eventbus.interceptor;
+
+import me.bush.eventbus.bus.EventBus;
+import me.bush.eventbus.event.Event;
+
+/**
+ * Runs around {@link EventBus#post} for one event type, added with {@link EventBus#addInterceptor}.
+ * An interceptor can observe an event, veto it by not calling {@code next}, or transform it by
+ * passing a different event to {@code next}.
+ *
+ * @author bush
+ * @since 10/18/2026
+ */
+@FunctionalInterface
+public interface EventInterceptor {
+
+    /**
+     * @param event The event being posted.
+     * @param next  The rest of the chain. Call it at most once.
+     * @return What {@link EventBus#post} should return. Usually the result of {@code next}.
+     */
+    boolean intercept(Event event, EventDispatcher next);
+}
@@ -0,0 +1,177 @@
+package me.bush.eventbus.journal;
+
+import me.bush.eventbus.bus.EventBus;
+import me.bush.eventbus.codec.CodecRegistry;
+import me.bush.eventbus.event.Event;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Replays a journal written by {@link EventJournalWriter} into an {@link EventBus}.
+ *
+ * @author bush
+ * @since 10/18/2026
+ */
+public class EventJournalReader {
+
+    /**
+     * The journal file.
+     */
+    private final Path file;
+
+    /**
+     * Codecs for the recorded event types. Must match the writer's.
+     */
+    private final CodecRegistry codecs;
+
+    /**
+     * The consumer to use for logging errors.
+     */
+    private final Consumer<String> errorLogger;
+
+    /**
+     * @param file        The journal to read.
+     * @param codecs      Codecs for the recorded event types. Must match the writer's.
+     * @param errorLogger The consumer to use for logging errors.
+     */
+    public EventJournalReader(Path file, CodecRegistry codecs, Consumer<String> errorLogger) {
+        this.file = file;
+        this.codecs = codecs;
+        this.errorLogger = errorLogger;
+    }
+
+    /**
+     * Posts every recorded event to an EventBus, in the order they were recorded. Can be called more than once.
+     *
+     * @param eventBus The EventBus to post to. Usually a fresh one, with the same subscribers as the original.
+     * @param realTime True to wait between events like they were originally posted, false to post as fast as possible.
+     * @return The number of events posted.
+     * @throws IOException If the file couldn't be read, or isn't a journal.
+     */
+    public int replay(EventBus eventBus, boolean realTime) throws IOException {
+        try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            // Starts out empty. Buffer methods are called through Buffer, so this links against Java 8 when built with a newer JDK
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+            ((Buffer) buffer).limit(0);
+            // Check header
+            if (!this.fill(channel, buffer, JournalFormat.FILE_HEADER) || buffer.getInt() != JournalFormat.MAGIC) {
+                throw new IOException(this.file + " is not an event journal.");
+            }
+            int version = buffer.getInt();
+            if (version != JournalFormat.VERSION) {
+                throw new IOException(this.file + " has unsupported journal version " + version + ".");
+            }
+            long start = System.nanoTime();
+            long offset = 0;
+            int count = 0;
+            // Set once a read reached the end of the file
+            boolean eof = false;
+            while (true) {
+                if (!buffer.hasRemaining()) {
+                    if (eof) break;
+                    eof = !this.fill(channel, buffer, JournalFormat.MAX_RECORD_HEADER);
+                    if (!buffer.hasRemaining()) break;
+                }
+                int recordStart = buffer.position();
+                long delta;
+                int id;
+                int length;
+                try {
+                    delta = JournalFormat.getVarLong(buffer);
+                    id = (int) JournalFormat.getVarLong(buffer);
+                    length = buffer.getInt();
+                } catch (BufferUnderflowException exception) {
+                    // Header is split across reads, read more and try again
+                    ((Buffer) buffer).position(recordStart);
+                    if (eof) {
+                        this.errorLogger.accept(this.file + " ends with an incomplete record.");
+                        break;
+                    }
+                    eof = !this.fill(channel, buffer, JournalFormat.MAX_RECORD_HEADER);
+                    continue;
+                }
+                // Make sure the whole payload is in the buffer
+                if (buffer.remaining() < length) {
+                    if (buffer.capacity() < length) buffer = this.grow(buffer, length);
+                    if (!this.fill(channel, buffer, length)) {
+                        this.errorLogger.accept(this.file + " ends with an incomplete record.");
+                        break;
+                    }
+                }
+                offset += delta;
+                // Decode in place
+                int limit = buffer.limit();
+                int next = buffer.position() + length;
+                ((Buffer) buffer).limit(next);
+                Event event = this.decode(id, buffer);
+                ((Buffer) buffer).limit(limit).position(next);
+                if (event == null) continue;
+                // Wait until the event was originally posted
+                if (realTime) {
+                    long wait;
+                    while ((wait = offset - (System.nanoTime() - start)) > 0) LockSupport.parkNanos(wait);
+                }
+                eventBus.post(event);
+                count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Reads from the channel until at least {@code needed} bytes are remaining in the buffer.
+     * Bytes that were already read are moved to the start of the buffer.
+     *
+     * @return False if the end of the file was reached first.
+     */
+    private boolean fill(FileChannel channel, ByteBuffer buffer, int needed) throws IOException {
+        if (buffer.remaining() >= needed) return true;
+        buffer.compact();
+        try {
+            while (buffer.position() < needed) {
+                if (channel.read(buffer) < 0) return false;
+            }
+            return true;
+        } finally {
+            ((Buffer) buffer).flip();
+        }
+    }
+
+    /**
+     * @return A bigger buffer with the same remaining bytes.
+     */
+    private ByteBuffer grow(ByteBuffer buffer, int needed) {
+        ByteBuffer bigger = ByteBuffer.allocateDirect(Integer.highestOneBit(needed) << 1);
+        bigger.put(buffer);
+        ((Buffer) bigger).flip();
+        return bigger;
+    }
+
+    /**
+     * Decodes a payload, logging an error instead of throwing.
+     *
+     * @return The event, or null if it couldn't be decoded.
+     */
+    private Event decode(int id, ByteBuffer buffer) {
+        CodecRegistry.Entry<?> entry = this.codecs.get(id);
+        if (entry == null) {
+            this.errorLogger.accept(this.file + " has no codec for id " + id + ", skipping.");
+            return null;
+        }
+        try {
+            return entry.decode(buffer);
+        } catch (RuntimeException exception) {
+            this.errorLogger.accept(this.file + " could not decode id " + id + ", skipping.");
+            exception.printStackTrace();
+            return null;
+        }
+    }
+}
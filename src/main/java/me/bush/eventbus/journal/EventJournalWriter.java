@@ -0,0 +1,198 @@
+package me.bush.eventbus.journal;
+
+import me.bush.eventbus.bus.EventBus;
+import me.bush.eventbus.codec.CodecRegistry;
+import me.bush.eventbus.event.Event;
+import me.bush.eventbus.interceptor.EventDispatcher;
+import me.bush.eventbus.interceptor.EventInterceptor;
+import me.bush.eventbus.util.Util;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Records events to an append-only binary journal, so they can be replayed later with {@link EventJournalReader}.
+ * Records are collected in a buffer and written to the file in batches.
+ *
+ * @author bush
+ * @since 10/18/2026
+ */
+public class EventJournalWriter implements EventInterceptor, Flushable, Closeable {
+
+    /**
+     * The largest record that can be written, so a codec that always overflows can't use up all memory.
+     */
+    private static final int MAX_RECORD = 1 << 30;
+
+    /**
+     * The journal file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Records that haven't been written to the file yet.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Codecs for the event types that should be recorded. Other event types are ignored.
+     */
+    private final CodecRegistry codecs;
+
+    /**
+     * The consumer to use for logging errors.
+     */
+    private final Consumer<String> errorLogger;
+
+    /**
+     * {@link System#nanoTime} of the previous record, so only the difference has to be written.
+     */
+    private long lastTime;
+
+    /**
+     * Creates a new journal, replacing the file if it exists.
+     *
+     * @param file        The file to write to.
+     * @param codecs      Codecs for the event types to record. Must match the reader's.
+     * @param bufferSize  How many bytes of records to collect before writing them to the file.
+     * @param errorLogger The consumer to use for logging errors.
+     * @throws IOException If the file couldn't be created.
+     */
+    public EventJournalWriter(Path file, CodecRegistry codecs, int bufferSize, Consumer<String> errorLogger) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, JournalFormat.FILE_HEADER + JournalFormat.MAX_RECORD_HEADER));
+        this.codecs = codecs;
+        this.errorLogger = errorLogger;
+        this.buffer.putInt(JournalFormat.MAGIC).putInt(JournalFormat.VERSION);
+        this.lastTime = System.nanoTime();
+    }
+
+    /**
+     * Records an event if its type has a codec. Events that don't fit in the buffer
+     * even when it is empty are encoded separately and written straight to the file.
+     *
+     * @param event The event to record.
+     * @return True if the event was recorded, false if it was ignored or dropped.
+     * @throws UncheckedIOException If the buffer had to be written and that failed.
+     */
+    public synchronized boolean record(Event event) {
+        if (event == null) return false;
+        CodecRegistry.Entry<?> entry = this.codecs.get(event.getClass());
+        if (entry == null) return false;
+        long time = System.nanoTime();
+        if (!this.tryRecord(this.buffer, entry, event, time - this.lastTime)) {
+            // Make room and try again
+            this.flush();
+            if (!this.tryRecord(this.buffer, entry, event, time - this.lastTime) && !this.recordLarge(entry, event, time - this.lastTime)) {
+                return false;
+            }
+        }
+        this.lastTime = time;
+        return true;
+    }
+
+    /**
+     * Records the event, then passes it on. Add this to an EventBus with
+     * {@link EventBus#addInterceptor} for each event type that has a codec.
+     * If the codec or the file throws, the error is logged and the event is still passed on.
+     */
+    @Override
+    public boolean intercept(Event event, EventDispatcher next) {
+        try {
+            this.record(event);
+        } catch (RuntimeException exception) {
+            this.errorLogger.accept("Could not record " + Util.formatClassName(event.getClass()) + " to the journal.");
+            exception.printStackTrace();
+        }
+        return next.dispatch(event);
+    }
+
+    /**
+     * Writes every buffered record to the file.
+     *
+     * @throws UncheckedIOException If writing failed.
+     */
+    @Override
+    public synchronized void flush() {
+        // Through Buffer, so this links against Java 8 when built with a newer JDK
+        ((Buffer) this.buffer).flip();
+        try {
+            while (this.buffer.hasRemaining()) this.channel.write(this.buffer);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            ((Buffer) this.buffer).clear();
+        }
+    }
+
+    /**
+     * Flushes, then closes the file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            this.flush();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Encodes a record that is bigger than the buffer into a temporary buffer, growing it until the record fits,
+     * and writes it straight to the file. The buffer must be empty, so records stay in order.
+     *
+     * @return False if the record didn't fit even in {@link #MAX_RECORD} bytes, and was dropped.
+     */
+    private boolean recordLarge(CodecRegistry.Entry<?> entry, Event event, long delta) {
+        ByteBuffer large = ByteBuffer.allocate(this.buffer.capacity() * 2);
+        while (!this.tryRecord(large, entry, event, delta)) {
+            if (large.capacity() >= MAX_RECORD) {
+                this.errorLogger.accept("Journal record for " + Util.formatClassName(event.getClass()) + " is bigger than " + MAX_RECORD + " bytes, dropped.");
+                return false;
+            }
+            large = ByteBuffer.allocate(Math.min(large.capacity() * 2, MAX_RECORD));
+        }
+        ((Buffer) large).flip();
+        try {
+            while (large.hasRemaining()) this.channel.write(large);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return true;
+    }
+
+    /**
+     * Encodes a record into a buffer.
+     *
+     * @return False if it didn't fit. The buffer is left as it was, also if the codec throws.
+     */
+    private boolean tryRecord(ByteBuffer buffer, CodecRegistry.Entry<?> entry, Event event, long delta) {
+        int start = buffer.position();
+        try {
+            JournalFormat.putVarLong(buffer, delta);
+            JournalFormat.putVarLong(buffer, entry.getId());
+            // Length is filled in after encoding, so the payload can be written in place
+            int lengthIndex = buffer.position();
+            buffer.putInt(0);
+            entry.encode(event, buffer);
+            buffer.putInt(lengthIndex, buffer.position() - lengthIndex - 4);
+            return true;
+        } catch (BufferOverflowException exception) {
+            ((Buffer) buffer).position(start);
+            return false;
+        } catch (RuntimeException exception) {
+            // Don't leave half a record behind
+            ((Buffer) buffer).position(start);
+            throw exception;
+        }
+    }
+}
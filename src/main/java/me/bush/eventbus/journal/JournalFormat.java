@@ -0,0 +1,58 @@
+package me.bush.eventbus.journal;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and helpers shared by {@link EventJournalWriter} and {@link EventJournalReader}.
+ * <p>
+ * A journal starts with {@link #MAGIC} and {@link #VERSION}, followed by records of
+ * {@code [varlong nanos since previous record][varint codec id][int length][payload]}.
+ *
+ * @author bush
+ * @since 10/18/2026
+ */
+final class JournalFormat {
+
+    /**
+     * "EVJB", so random files aren't replayed.
+     */
+    static final int MAGIC = 0x45564A42;
+
+    static final int VERSION = 1;
+
+    static final int FILE_HEADER = 8;
+
+    /**
+     * Largest possible record header (10 byte varlong, 5 byte varint, 4 byte int).
+     */
+    static final int MAX_RECORD_HEADER = 19;
+
+    private JournalFormat() {
+    }
+
+    /**
+     * Writes an unsigned variable length long, 7 bits per byte.
+     */
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned variable length long.
+     *
+     * @throws BufferUnderflowException If the buffer ends in the middle of it.
+     */
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte next = buffer.get();
+            value |= (long) (next & 0x7F) << shift;
+            if (next >= 0) return value;
+        }
+    }
+}
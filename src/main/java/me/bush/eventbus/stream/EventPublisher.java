@@ -0,0 +1,328 @@
+package me.bush.eventbus.stream;
+
+import me.bush.eventbus.annotation.ListenerPriority;
+import me.bush.eventbus.bus.EventBus;
+import me.bush.eventbus.event.Event;
+import me.bush.eventbus.handler.Handler;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A stream of one event type, with backpressure. Each subscriber gets its own bounded buffer, which is
+ * filled when events are posted and emptied as the subscriber requests more. Same contract as
+ * {@code java.util.concurrent.Flow.Publisher}, which isn't available on Java 8.
+ * <p>
+ * Events are buffered after every listener has been invoked (like a {@link ListenerPriority#LOWEST} listener),
+ * and cancelled events are skipped. Events are sent as they are, so don't change them after posting if they are streamed.
+ * Posting only adds to the buffers; subscribers are called on an {@link Executor}, so a slow subscriber never blocks posting.
+ *
+ * @author bush
+ * @since 10/19/2026
+ * @see EventBus#publisher
+ */
+public class EventPublisher<T extends Event> {
+
+    /**
+     * The EventBus this publisher is subscribed to.
+     */
+    private final EventBus eventBus;
+
+    /**
+     * The exact event type this publisher streams.
+     */
+    private final Class<T> eventType;
+
+    /**
+     * How many events each subscriber can have buffered.
+     */
+    private final int bufferSize;
+
+    /**
+     * What to do when a subscriber's buffer is full.
+     */
+    private final OverflowStrategy overflow;
+
+    /**
+     * Sends events to subscribers, so posting threads don't.
+     */
+    private final Executor executor;
+
+    /**
+     * The consumer to use for error messages.
+     */
+    private final Consumer<String> logger;
+
+    /**
+     * The handler that is added to the EventBus for {@link #eventType}.
+     */
+    private final Handler handler;
+
+    /**
+     * Current subscriptions.
+     */
+    private final List<BufferedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Set by {@link #close}.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Use {@link EventBus#publisher} instead, which also subscribes the publisher.
+     *
+     * @param eventBus   The EventBus this publisher is subscribed to.
+     * @param eventType  The exact event type to stream.
+     * @param bufferSize How many events each subscriber can have buffered.
+     * @param overflow   What to do when a subscriber's buffer is full.
+     * @param executor   Sends events to subscribers. Each subscriber is only ever sent one thing at a time.
+     * @param logger     The consumer to use for error messages.
+     */
+    public EventPublisher(EventBus eventBus, Class<T> eventType, int bufferSize, OverflowStrategy overflow, Executor executor, Consumer<String> logger) {
+        this.eventBus = eventBus;
+        this.eventType = eventType;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.overflow = overflow;
+        this.executor = executor;
+        this.logger = logger;
+        this.handler = new PublisherHandler(logger);
+    }
+
+    /**
+     * Adds a subscriber. It won't get any events until it calls {@link EventSubscription#request}, and only
+     * gets events posted after {@link EventSubscriber#onSubscribe} returns.
+     *
+     * @param subscriber The subscriber to add.
+     */
+    public void subscribe(EventSubscriber<? super T> subscriber) {
+        BufferedSubscription subscription = new BufferedSubscription(subscriber);
+        // Before it can be reached by posting or closing, so onSubscribe is always the first signal
+        subscriber.onSubscribe(subscription);
+        // Cancelled from onSubscribe, before there was anything to remove
+        if (subscription.cancelled) return;
+        this.subscriptions.add(subscription);
+        // Closed before (or while) subscribing
+        if (this.closed) subscription.complete();
+    }
+
+    /**
+     * Unsubscribes from the EventBus. Subscribers get {@link EventSubscriber#onComplete} once they have taken every buffered event.
+     */
+    public void close() {
+        if (this.closed) return;
+        this.closed = true;
+        this.eventBus.unsubscribe(this);
+        this.subscriptions.forEach(BufferedSubscription::complete);
+    }
+
+    /**
+     * @return The exact event type this publisher streams.
+     */
+    public Class<T> getEventType() {
+        return this.eventType;
+    }
+
+    /**
+     * Called by the EventBus when subscribing this publisher.
+     *
+     * @return The handler to add for {@link #getEventType}.
+     */
+    public Handler getHandler() {
+        return this.handler;
+    }
+
+    /**
+     * Buffers posted events for every subscriber.
+     */
+    private class PublisherHandler extends Handler {
+
+        private PublisherHandler(Consumer<String> logger) {
+            super(ListenerPriority.LOWEST, false, EventPublisher.this, logger);
+        }
+
+        @Override
+        public void invoke(Event event) {
+            T cast = EventPublisher.this.eventType.cast(event);
+            for (BufferedSubscription subscription : EventPublisher.this.subscriptions) {
+                subscription.offer(cast);
+            }
+        }
+    }
+
+    /**
+     * One subscriber's buffer and demand. Events are sent by a task on {@link #executor}, and only one
+     * is scheduled at a time, so sends are never concurrent.
+     */
+    private class BufferedSubscription implements EventSubscription {
+
+        private final EventSubscriber<? super T> subscriber;
+
+        /**
+         * Events waiting to be sent. Guarded by itself.
+         */
+        private final Queue<T> buffer = new ArrayDeque<>();
+
+        /**
+         * Events requested but not sent yet.
+         */
+        private final AtomicLong requested = new AtomicLong();
+
+        /**
+         * Non-zero while a drain is scheduled or running. Incremented for every reason to drain, so none are missed.
+         */
+        private final AtomicInteger draining = new AtomicInteger();
+
+        /**
+         * An error to send once, or null.
+         */
+        private volatile Throwable error;
+
+        /**
+         * Set once the publisher is closed. {@link EventSubscriber#onComplete} is sent when the buffer is empty.
+         */
+        private volatile boolean completed;
+
+        /**
+         * Set once nothing else should be sent.
+         */
+        private volatile boolean cancelled;
+
+        private BufferedSubscription(EventSubscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.error = new IllegalArgumentException("Requested " + n + " events, must be positive.");
+            } else {
+                // Add without overflowing
+                this.requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            this.drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            EventPublisher.this.subscriptions.remove(this);
+            // Drop buffered events, unless another thread is draining (it will drop them)
+            if (this.draining.getAndIncrement() == 0) this.clear();
+        }
+
+        /**
+         * Buffers an event, and schedules sending what has been requested. Never calls the subscriber.
+         */
+        private void offer(T event) {
+            if (this.cancelled) return;
+            synchronized (this.buffer) {
+                if (this.buffer.size() >= EventPublisher.this.bufferSize) {
+                    switch (EventPublisher.this.overflow) {
+                        case DROP_OLDEST:
+                            this.buffer.poll();
+                            break;
+                        case DROP_NEWEST:
+                            return;
+                        case ERROR:
+                            // Sent by drain, outside of the lock
+                            if (this.error == null) this.error = new IllegalStateException("Buffer overflow, more than " + EventPublisher.this.bufferSize + " events buffered.");
+                            event = null;
+                            break;
+                    }
+                }
+                if (event != null) this.buffer.offer(event);
+            }
+            this.drain();
+        }
+
+        /**
+         * Marks this subscription completed, and schedules {@link EventSubscriber#onComplete} for when nothing is buffered.
+         */
+        private void complete() {
+            this.completed = true;
+            this.drain();
+        }
+
+        /**
+         * Schedules {@link #run} on the executor, unless it is already scheduled or running,
+         * in which case it will loop again to pick up whatever we added.
+         */
+        private void drain() {
+            if (this.draining.getAndIncrement() != 0) return;
+            try {
+                EventPublisher.this.executor.execute(this::run);
+            } catch (RejectedExecutionException exception) {
+                // Let the next offer or request try again
+                this.draining.set(0);
+                EventPublisher.this.logger.accept("Could not schedule sending events to a subscriber.");
+                exception.printStackTrace();
+            }
+        }
+
+        /**
+         * Sends buffered events as long as there is demand. Runs on the executor, one at a time per subscription.
+         */
+        private void run() {
+            int missed = 1;
+            do {
+                long requested = this.requested.get();
+                long sent = 0;
+                while (!this.cancelled && this.error == null && sent != requested) {
+                    T event;
+                    synchronized (this.buffer) {
+                        event = this.buffer.poll();
+                    }
+                    if (event == null) break;
+                    this.subscriber.onNext(event);
+                    sent++;
+                }
+                if (this.cancelled) {
+                    this.clear();
+                    return;
+                }
+                // Errors skip whatever is buffered
+                if (this.error != null) {
+                    this.terminate();
+                    this.subscriber.onError(this.error);
+                    return;
+                }
+                if (this.completed && this.isEmpty()) {
+                    this.terminate();
+                    this.subscriber.onComplete();
+                    return;
+                }
+                if (sent != 0 && requested != Long.MAX_VALUE) this.requested.addAndGet(-sent);
+                missed = this.draining.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private boolean isEmpty() {
+            synchronized (this.buffer) {
+                return this.buffer.isEmpty();
+            }
+        }
+
+        private void clear() {
+            synchronized (this.buffer) {
+                this.buffer.clear();
+            }
+        }
+
+        /**
+         * Cancels before sending a terminal signal, so nothing else is sent. The drain counter is never
+         * decremented afterwards, so no other thread will drain again.
+         */
+        private void terminate() {
+            this.cancelled = true;
+            EventPublisher.this.subscriptions.remove(this);
+            this.clear();
+        }
+    }
+}
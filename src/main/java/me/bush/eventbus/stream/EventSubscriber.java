@@ -0,0 +1,35 @@
+package me.bush.eventbus.stream;
+
+import me.bush.eventbus.event.Event;
+
+/**
+ * Receives events from an {@link EventPublisher}. Same contract as {@code java.util.concurrent.Flow.Subscriber},
+ * which isn't available on Java 8: nothing is sent until {@link EventSubscription#request} is called, and calls are never concurrent.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+public interface EventSubscriber<T extends Event> {
+
+    /**
+     * Called once, before anything else.
+     *
+     * @param subscription Used to request events, or cancel.
+     */
+    void onSubscribe(EventSubscription subscription);
+
+    /**
+     * Called for each event, at most as many times as requested.
+     */
+    void onNext(T event);
+
+    /**
+     * Called at most once if something went wrong, like the buffer overflowing with {@link OverflowStrategy#ERROR}. Nothing is sent after this.
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Called at most once when the publisher is closed and every buffered event was sent. Nothing is sent after this.
+     */
+    void onComplete();
+}
@@ -0,0 +1,23 @@
+package me.bush.eventbus.stream;
+
+/**
+ * The link between an {@link EventPublisher} and one {@link EventSubscriber}.
+ * Same contract as {@code java.util.concurrent.Flow.Subscription}.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+public interface EventSubscription {
+
+    /**
+     * Allows {@code n} more events to be sent. Requests add up, and {@link Long#MAX_VALUE} means unbounded.
+     *
+     * @param n A positive number of events. Anything else sends {@link EventSubscriber#onError}.
+     */
+    void request(long n);
+
+    /**
+     * Stops sending events, and drops any that are buffered. Events may still be sent while this is being called.
+     */
+    void cancel();
+}
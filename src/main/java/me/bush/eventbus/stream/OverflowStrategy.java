@@ -0,0 +1,13 @@
+package me.bush.eventbus.stream;
+
+/**
+ * What an {@link EventPublisher} does when a subscriber's buffer is full. Posting never blocks.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+public enum OverflowStrategy {
+    DROP_OLDEST, // Remove the oldest buffered event to make room
+    DROP_NEWEST, // Ignore the event being posted
+    ERROR // Cancel the subscriber, and send it an IllegalStateException
+}
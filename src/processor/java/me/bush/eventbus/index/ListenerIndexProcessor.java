@@ -0,0 +1,84 @@
+package me.bush.eventbus.index;
+
+import me.bush.eventbus.annotation.EventListener;
+import me.bush.eventbus.bus.EventBus;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes {@link EventBus#INDEX_FILE} at compile time, listing every class with a static {@link EventListener}.
+ * {@link EventBus#subscribeIndexed} subscribes them without scanning the classpath. Published separately, with the
+ * {@code processor} classifier, so it isn't picked up from the runtime jar. Add that to the {@code annotationProcessor}
+ * configuration to use it. It is registered with Gradle as an aggregating incremental processor.
+ * <p>
+ * Only refers to the annotation by name (and to compile-time constants), so it doesn't need the library on the processor path.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+@SupportedAnnotationTypes(ListenerIndexProcessor.ANNOTATION)
+public class ListenerIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Name of {@link EventListener}.
+     */
+    static final String ANNOTATION = "me.bush.eventbus.annotation.EventListener";
+
+    /**
+     * Binary names of classes with static listeners, sorted so the index is the same every build.
+     */
+    private final Set<String> classes = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            this.writeIndex();
+            return false;
+        }
+        TypeElement annotation = this.processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+        if (annotation == null) return false;
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            // Instance listeners need an object, which can't come from an index
+            if (!element.getModifiers().contains(Modifier.STATIC)) continue;
+            TypeElement type = (TypeElement) element.getEnclosingElement();
+            this.classes.add(this.processingEnv.getElementUtils().getBinaryName(type).toString());
+        }
+        // Other processors may want this annotation too
+        return false;
+    }
+
+    /**
+     * Writes every class found to the index, if there were any.
+     */
+    private void writeIndex() {
+        if (this.classes.isEmpty()) return;
+        try {
+            FileObject file = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", EventBus.INDEX_FILE);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String name : this.classes) writer.write(name + "\n");
+            }
+        } catch (IOException exception) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write " + EventBus.INDEX_FILE + ": " + exception.getMessage());
+        }
+    }
+}
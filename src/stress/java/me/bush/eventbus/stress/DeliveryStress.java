@@ -0,0 +1,182 @@
+package me.bush.eventbus.stress;
+
+import me.bush.eventbus.bus.EventBus;
+import me.bush.eventbus.handler.Handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Posts events from several threads while other threads subscribe, unsubscribe, and change the handler type,
+ * then checks that every listener that stayed subscribed recieved every event exactly once, and that nothing
+ * that was unsubscribed is still invoked.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+public class DeliveryStress {
+
+    /**
+     * Listeners that stay subscribed for the whole run. Several of the same class, so handlers that cache per method are covered.
+     */
+    private static final int STABLE_RECORDERS = 4;
+
+    /**
+     * Threads that subscribe and unsubscribe churn recorders.
+     */
+    private static final int CHURN_THREADS = 2;
+
+    /**
+     * Churn recorders subscribed at once with {@link EventBus#subscribeAll}.
+     */
+    private static final int CHURN_BATCH = 16;
+
+    /**
+     * The handler type the bus starts with.
+     */
+    private final Class<? extends Handler> handlerType;
+
+    /**
+     * Threads that post events.
+     */
+    private final int posters;
+
+    /**
+     * Events posted by each poster.
+     */
+    private final int events;
+
+    /**
+     * Everything that went wrong, including messages sent to the bus's error logger.
+     */
+    private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Set once every poster has finished.
+     */
+    private volatile boolean done;
+
+    public DeliveryStress(Class<? extends Handler> handlerType, int posters, int events) {
+        this.handlerType = handlerType;
+        this.posters = posters;
+        this.events = events;
+    }
+
+    /**
+     * @return Everything that went wrong, empty if the run passed.
+     * @throws InterruptedException If interrupted while waiting for the threads.
+     */
+    public List<String> run() throws InterruptedException {
+        EventBus eventBus = new EventBus(this.handlerType, this.errors::add, message -> {
+        });
+        int total = this.posters * this.events;
+        // Stable listeners, instance and static
+        List<AtomicIntegerArray> stable = new ArrayList<>();
+        for (int i = 0; i < STABLE_RECORDERS; i++) {
+            Recorder recorder = Recorder.stable(total);
+            eventBus.subscribe(recorder);
+            stable.add(recorder.getHits());
+        }
+        stable.add(Recorder.Static.reset(total));
+        eventBus.subscribe(Recorder.Static.class);
+        AtomicInteger leaked = new AtomicInteger();
+        // Everything starts at once
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> posters = new ArrayList<>();
+        for (int i = 0; i < this.posters; i++) {
+            int first = i * this.events;
+            posters.add(this.thread("poster-" + i, start, () -> {
+                for (int id = first; id < first + this.events; id++) {
+                    eventBus.post(new StressEvent(id));
+                }
+            }));
+        }
+        List<Thread> others = new ArrayList<>();
+        for (int i = 0; i < CHURN_THREADS; i++) {
+            others.add(this.thread("churn-" + i, start, () -> this.churn(eventBus, leaked)));
+        }
+        others.add(this.thread("handler-type", start, () -> {
+            while (!this.done) {
+                // One at a time, waiting for each
+                for (Class<? extends Handler> handlerType : StressTest.HANDLER_TYPES) {
+                    eventBus.setHandlerType(handlerType);
+                }
+                // All at once, so most are superseded (their futures should still complete)
+                List<CompletableFuture<Void>> rebuilds = new ArrayList<>();
+                for (Class<? extends Handler> handlerType : StressTest.HANDLER_TYPES) {
+                    rebuilds.add(eventBus.setHandlerTypeAsync(handlerType));
+                }
+                CompletableFuture.allOf(rebuilds.toArray(new CompletableFuture<?>[0])).join();
+                Class<? extends Handler> last = StressTest.HANDLER_TYPES.get(StressTest.HANDLER_TYPES.size() - 1);
+                if (eventBus.getHandlerType() != last) {
+                    this.errors.add("Handler type is " + eventBus.getHandlerType().getSimpleName() + " after switching to " + last.getSimpleName());
+                }
+            }
+        }));
+        start.countDown();
+        for (Thread poster : posters) poster.join();
+        this.done = true;
+        for (Thread other : others) other.join();
+        // Every churn recorder has been unsubscribed, so this should only reach stable listeners
+        eventBus.post(new StressEvent(StressEvent.FINAL));
+        if (leaked.get() != 0) this.errors.add(leaked.get() + " unsubscribed listeners were still invoked");
+        for (int i = 0; i < stable.size(); i++) {
+            this.check(i == STABLE_RECORDERS ? "static listener" : "listener " + i, stable.get(i));
+        }
+        return this.errors;
+    }
+
+    /**
+     * Subscribes and unsubscribes churn recorders until the posters are done, one at a time and in batches.
+     */
+    private void churn(EventBus eventBus, AtomicInteger leaked) {
+        List<Recorder> batch = new ArrayList<>();
+        while (!this.done) {
+            Recorder recorder = Recorder.churn(leaked);
+            eventBus.subscribe(recorder);
+            eventBus.unsubscribe(recorder);
+            for (int i = 0; i < CHURN_BATCH; i++) batch.add(Recorder.churn(leaked));
+            eventBus.subscribeAll(batch);
+            batch.forEach(eventBus::unsubscribe);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Adds an error if any event was lost or delivered more than once.
+     */
+    private void check(String name, AtomicIntegerArray hits) {
+        int lost = 0, duplicated = 0, first = -1;
+        for (int id = 0; id < hits.length(); id++) {
+            int count = hits.get(id);
+            if (count == 1) continue;
+            if (count == 0) lost++;
+            else duplicated++;
+            if (first == -1) first = id;
+        }
+        if (first != -1) {
+            this.errors.add(String.format("%s: %d lost, %d delivered more than once (first: event %d, %d times)", name, lost, duplicated, first, hits.get(first)));
+        }
+    }
+
+    /**
+     * Starts a thread that waits for the latch, and records anything it throws.
+     */
+    private Thread thread(String name, CountDownLatch start, Runnable task) {
+        Thread thread = new Thread(() -> {
+            try {
+                start.await();
+                task.run();
+            } catch (Throwable throwable) {
+                this.errors.add(name + " threw " + throwable);
+            }
+        }, name);
+        thread.start();
+        return thread;
+    }
+}
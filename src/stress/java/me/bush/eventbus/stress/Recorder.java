@@ -0,0 +1,84 @@
+package me.bush.eventbus.stress;
+
+import me.bush.eventbus.annotation.EventListener;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Counts how many times it recieved each event. Stable recorders stay subscribed for a whole run;
+ * churn recorders are subscribed and unsubscribed over and over, and shouldn't recieve anything once they are gone.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+public class Recorder {
+
+    /**
+     * Deliveries per event id, or null for churn recorders.
+     */
+    private final AtomicIntegerArray hits;
+
+    /**
+     * Shared by churn recorders, incremented if one recieves {@link StressEvent#FINAL}.
+     */
+    private final AtomicInteger leaked;
+
+    private Recorder(AtomicIntegerArray hits, AtomicInteger leaked) {
+        this.hits = hits;
+        this.leaked = leaked;
+    }
+
+    /**
+     * @param events How many events will be posted.
+     * @return A recorder that stays subscribed.
+     */
+    public static Recorder stable(int events) {
+        return new Recorder(new AtomicIntegerArray(events), null);
+    }
+
+    /**
+     * @param leaked Incremented if the recorder is invoked after everything was unsubscribed.
+     * @return A recorder that is subscribed and unsubscribed during a run.
+     */
+    public static Recorder churn(AtomicInteger leaked) {
+        return new Recorder(null, leaked);
+    }
+
+    @EventListener
+    public void onEvent(StressEvent event) {
+        if (event.getId() == StressEvent.FINAL) {
+            if (this.leaked != null) this.leaked.incrementAndGet();
+        } else if (this.hits != null) {
+            this.hits.incrementAndGet(event.getId());
+        }
+    }
+
+    /**
+     * @return Deliveries per event id, or null for churn recorders.
+     */
+    public AtomicIntegerArray getHits() {
+        return this.hits;
+    }
+
+    /**
+     * The same, for static listeners.
+     */
+    public static class Static {
+
+        private static volatile AtomicIntegerArray hits;
+
+        /**
+         * @param events How many events will be posted.
+         * @return A new array to record into.
+         */
+        public static AtomicIntegerArray reset(int events) {
+            return hits = new AtomicIntegerArray(events);
+        }
+
+        @EventListener
+        public static void onEvent(StressEvent event) {
+            if (event.getId() != StressEvent.FINAL) hits.incrementAndGet(event.getId());
+        }
+    }
+}
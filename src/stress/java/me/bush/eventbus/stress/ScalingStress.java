@@ -0,0 +1,107 @@
+package me.bush.eventbus.stress;
+
+import me.bush.eventbus.bus.EventBus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Measures posting throughput from 1 to N threads, with the registry left alone and with another thread
+ * constantly subscribing and unsubscribing. Rough numbers only; use the JMH benchmarks for anything precise.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+public class ScalingStress {
+
+    /**
+     * Listeners subscribed for every measurement.
+     */
+    private static final int LISTENERS = 4;
+
+    /**
+     * The most posting threads to measure with.
+     */
+    private final int maxThreads;
+
+    /**
+     * Events posted by each thread, per measurement.
+     */
+    private final int events;
+
+    public ScalingStress(int maxThreads, int events) {
+        this.maxThreads = Math.max(1, maxThreads);
+        this.events = events;
+    }
+
+    /**
+     * @param output Where to send the results table.
+     * @throws InterruptedException If interrupted while waiting for the threads.
+     */
+    public void run(Consumer<String> output) throws InterruptedException {
+        String format = "%-10s%-25s%-25s";
+        output.accept(String.format(format, "Threads", "Posts/ms", "Posts/ms (with churn)"));
+        // Powers of two, then the maximum
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < this.maxThreads; threads *= 2) counts.add(threads);
+        counts.add(this.maxThreads);
+        for (int threads : counts) {
+            // Once to warm up, then measure
+            this.measure(threads, false);
+            double quiet = this.measure(threads, false);
+            double churn = this.measure(threads, true);
+            output.accept(String.format(format, threads, String.format("%.0f", quiet), String.format("%.0f", churn)));
+        }
+    }
+
+    /**
+     * @return Events posted per millisecond, across every thread.
+     */
+    private double measure(int threads, boolean churn) throws InterruptedException {
+        EventBus eventBus = new EventBus(message -> {
+        });
+        for (int i = 0; i < LISTENERS; i++) eventBus.subscribe(Recorder.stable(threads * this.events));
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger(threads);
+        List<Thread> posters = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int first = i * this.events;
+            posters.add(this.thread(start, () -> {
+                for (int id = first; id < first + this.events; id++) {
+                    eventBus.post(new StressEvent(id));
+                }
+                running.decrementAndGet();
+            }));
+        }
+        Thread churner = churn ? this.thread(start, () -> {
+            AtomicInteger leaked = new AtomicInteger();
+            while (running.get() != 0) {
+                Recorder recorder = Recorder.churn(leaked);
+                eventBus.subscribe(recorder);
+                eventBus.unsubscribe(recorder);
+            }
+        }) : null;
+        long time = System.nanoTime();
+        start.countDown();
+        for (Thread poster : posters) poster.join();
+        time = System.nanoTime() - time;
+        if (churner != null) churner.join();
+        return threads * (double) this.events / (time / 1_000_000D);
+    }
+
+    private Thread thread(CountDownLatch start, Runnable task) {
+        Thread thread = new Thread(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException exception) {
+                return;
+            }
+            task.run();
+        });
+        thread.start();
+        return thread;
+    }
+}
@@ -0,0 +1,32 @@
+package me.bush.eventbus.stress;
+
+import me.bush.eventbus.event.Event;
+
+/**
+ * An event with an id, so every delivery can be counted.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+public class StressEvent extends Event {
+
+    /**
+     * Unique for every posted event, or {@link #FINAL} for the one posted after everything else has stopped.
+     */
+    private final int id;
+
+    public static final int FINAL = -1;
+
+    public StressEvent(int id) {
+        this.id = id;
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    @Override
+    protected boolean isCancellable() {
+        return false;
+    }
+}
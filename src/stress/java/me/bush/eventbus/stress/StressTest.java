@@ -0,0 +1,53 @@
+package me.bush.eventbus.stress;
+
+import me.bush.eventbus.handler.Handler;
+import me.bush.eventbus.handler.handlers.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs every stress check, and exits with status 1 if any of them failed. Run with {@code ./gradlew stress}.
+ * <p>
+ * Arguments (all optional): {@code [max threads] [events per poster] [rounds]}.
+ *
+ * @author bush
+ * @since 10/19/2026
+ */
+public class StressTest {
+
+    /**
+     * Every handler type shipped with the library.
+     */
+    static final List<Class<? extends Handler>> HANDLER_TYPES = Arrays.asList(
+            ReflectHandler.class, LambdaHandler.class, ASMHandler.class, LazyHandler.class, CompactHandler.class, MethodHandleHandler.class
+    );
+
+    public static void main(String[] args) throws Exception {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int events = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        List<String> failures = new ArrayList<>();
+        // Correctness first, every handler type, with registry changes on other threads
+        for (Class<? extends Handler> handlerType : HANDLER_TYPES) {
+            for (int i = 1; i <= rounds; i++) {
+                int round = i;
+                DeliveryStress stress = new DeliveryStress(handlerType, Math.max(2, maxThreads / 2), events);
+                List<String> errors = stress.run();
+                System.out.printf("%-20s round %d: %s%n", handlerType.getSimpleName(), round, errors.isEmpty() ? "OK" : errors.size() + " errors");
+                errors.forEach(error -> failures.add(handlerType.getSimpleName() + " round " + round + ": " + error));
+            }
+        }
+        // Then throughput, from 1 to maxThreads posting threads
+        System.out.println();
+        new ScalingStress(maxThreads, events).run(System.out::println);
+        if (!failures.isEmpty()) {
+            System.out.println();
+            System.out.println(failures.size() + " failures:");
+            // Don't flood the console if something is badly broken
+            failures.stream().limit(50).forEach(failure -> System.out.println("  " + failure));
+            System.exit(1);
+        }
+    }
+}